@@ -0,0 +1,68 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.node.parser;
+
+import bisq.core.dao.node.parser.exceptions.BlockNotConnectingException;
+import bisq.core.dao.state.BsqStateService;
+import bisq.core.dao.state.blockchain.RawBlock;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parses the whole synthetic chain into a new state at each invocation. Blocks with at least 100 txs use the
+ * parallel pre-filter of the BlockParser.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BlockParserBenchmark {
+    @Param({"500", "2000"})
+    public int numBlocks;
+    @Param({"50", "500"})
+    public int txsPerBlock;
+    @Param({"0.02", "0.2"})
+    public double bsqShare;
+
+    private List<RawBlock> rawBlocks;
+
+    @Setup
+    public void setup() {
+        rawBlocks = new BsqChainGenerator(numBlocks, txsPerBlock, bsqShare).generate();
+    }
+
+    @Benchmark
+    public BsqStateService parseChain() throws BlockNotConnectingException {
+        return BsqChainGenerator.parseChain(rawBlocks);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.state;
+
+import bisq.core.dao.node.parser.BsqChainGenerator;
+import bisq.core.dao.node.parser.exceptions.BlockNotConnectingException;
+import bisq.core.dao.state.blockchain.Block;
+import bisq.core.dao.state.blockchain.Tx;
+import bisq.core.dao.state.blockchain.TxOutput;
+import bisq.core.dao.state.blockchain.TxOutputKey;
+import bisq.core.dao.state.blockchain.TxOutputType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency of the BsqStateService queries used by the wallet, the UI and the parser. The lookups cycle through
+ * existing keys in a shuffled order.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BsqStateServiceQueryBenchmark {
+    @Param({"1000", "5000"})
+    public int numBlocks;
+    @Param({"0.05"})
+    public double bsqShare;
+
+    private BsqStateService bsqStateService;
+    private final List<String> txIds = new ArrayList<>();
+    private final List<TxOutputKey> txOutputKeys = new ArrayList<>();
+    private final List<Integer> heights = new ArrayList<>();
+    private int counter;
+
+    @Setup
+    public void setup() throws BlockNotConnectingException {
+        bsqStateService = BsqChainGenerator.parseChain(new BsqChainGenerator(numBlocks, 200, bsqShare).generate());
+        bsqStateService.getTxStream().forEach(tx -> {
+            txIds.add(tx.getId());
+            tx.getTxOutputs().forEach(txOutput -> txOutputKeys.add(txOutput.getKey()));
+        });
+        bsqStateService.getBlocks().forEach(block -> heights.add(block.getHeight()));
+        Random random = new Random(42);
+        Collections.shuffle(txIds, random);
+        Collections.shuffle(txOutputKeys, random);
+        Collections.shuffle(heights, random);
+    }
+
+    @Benchmark
+    public Optional<Tx> getTx() {
+        return bsqStateService.getTx(txIds.get(next(txIds.size())));
+    }
+
+    @Benchmark
+    public Optional<TxOutput> getUnspentTxOutput() {
+        return bsqStateService.getUnspentTxOutput(txOutputKeys.get(next(txOutputKeys.size())));
+    }
+
+    @Benchmark
+    public boolean isTxOutputSpendable() {
+        return bsqStateService.isTxOutputSpendable(txOutputKeys.get(next(txOutputKeys.size())));
+    }
+
+    @Benchmark
+    public Optional<Block> getBlockAtHeight() {
+        return bsqStateService.getBlockAtHeight(heights.get(next(heights.size())));
+    }
+
+    @Benchmark
+    public long getTotalBurntFee() {
+        return bsqStateService.getTotalBurntFee();
+    }
+
+    @Benchmark
+    public Set<TxOutput> getTxOutputsByTxOutputType() {
+        return bsqStateService.getTxOutputsByTxOutputType(TxOutputType.BSQ_OUTPUT);
+    }
+
+    private int next(int size) {
+        counter = counter + 1 < size ? counter + 1 : 0;
+        return counter;
+    }
+}
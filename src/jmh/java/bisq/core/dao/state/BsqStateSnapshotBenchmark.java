@@ -0,0 +1,80 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.state;
+
+import bisq.core.dao.node.parser.BsqChainGenerator;
+import bisq.core.dao.node.parser.exceptions.BlockNotConnectingException;
+
+import io.bisq.generated.protobuffer.PB;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Costs of the snapshot handling: the clone the SnapshotManager creates, the serialization for persistence and the
+ * deserialization at startup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BsqStateSnapshotBenchmark {
+    @Param({"1000", "5000"})
+    public int numBlocks;
+    @Param({"0.05"})
+    public double bsqShare;
+
+    private BsqStateService bsqStateService;
+    private BsqState bsqState;
+    private byte[] serializedState;
+
+    @Setup
+    public void setup() throws BlockNotConnectingException {
+        bsqStateService = BsqChainGenerator.parseChain(new BsqChainGenerator(numBlocks, 200, bsqShare).generate());
+        bsqState = bsqStateService.getClone();
+        serializedState = bsqState.toProtoMessage().toByteArray();
+    }
+
+    @Benchmark
+    public BsqState getClone() {
+        return bsqStateService.getClone();
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return bsqState.toProtoMessage().toByteArray();
+    }
+
+    @Benchmark
+    public BsqState deserialize() throws Exception {
+        return (BsqState) BsqState.fromProto(PB.PersistableEnvelope.parseFrom(serializedState).getBsqState());
+    }
+}
@@ -40,7 +40,6 @@ import bisq.common.UserThread;
 import bisq.common.app.AppModule;
 import bisq.common.app.DevEnv;
 import bisq.common.handlers.ResultHandler;
-import bisq.common.proto.persistable.PersistedDataHost;
 import bisq.common.setup.GracefulShutDownHandler;
 import bisq.common.storage.CorruptedDatabaseFilesHandler;
 import bisq.common.storage.Storage;
@@ -218,13 +217,13 @@ public abstract class BisqExecutable implements GracefulShutDownHandler {
 
     protected void setupPersistedDataHosts(Injector injector) {
         try {
-            PersistedDataHost.apply(CorePersistedDataHost.getPersistedDataHosts(injector));
+            CorePersistedDataHost.getPersistedDataHostLoader(injector).load();
         } catch (Throwable t) {
             // If we are in dev mode we want to get the exception if some db files are corrupted
             // We need to delay it as the stage is not created yet and so popups would not be shown.
             if (DevEnv.isDevMode())
                 UserThread.runAfter(() -> {
-                    log.error("Error at PersistedDataHost.apply: " + t.toString());
+                    log.error("Error at reading persisted data: " + t.toString());
                     throw t;
                 }, 2);
         }
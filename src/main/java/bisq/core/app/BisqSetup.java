@@ -38,6 +38,7 @@ import bisq.core.notifications.alerts.MyOfferTakenEvents;
 import bisq.core.notifications.alerts.TradeEvents;
 import bisq.core.notifications.alerts.market.MarketAlerts;
 import bisq.core.notifications.alerts.price.PriceAlert;
+import bisq.core.offer.MarketDepthService;
 import bisq.core.offer.OpenOffer;
 import bisq.core.offer.OpenOfferManager;
 import bisq.core.payment.AccountAgeWitnessService;
@@ -65,11 +66,15 @@ import bisq.common.crypto.CryptoException;
 import bisq.common.crypto.KeyRing;
 import bisq.common.crypto.SealedAndSigned;
 import bisq.common.proto.ProtobufferException;
+import bisq.common.storage.JsonFileManager;
+import bisq.common.storage.Storage;
 import bisq.common.util.Utilities;
 
 import org.bitcoinj.core.Coin;
 import org.bitcoinj.core.Transaction;
 
+import com.google.inject.name.Named;
+
 import javax.inject.Inject;
 
 import com.google.common.net.InetAddresses;
@@ -93,6 +98,7 @@ import java.security.Security;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 
+import java.io.File;
 import java.io.IOException;
 
 import java.util.ArrayList;
@@ -126,6 +132,7 @@ public class BisqSetup {
     private final P2PService p2PService;
     private final TradeManager tradeManager;
     private final OpenOfferManager openOfferManager;
+    private final MarketDepthService marketDepthService;
     private final DisputeManager disputeManager;
     private final Preferences preferences;
     private final User user;
@@ -182,6 +189,9 @@ public class BisqSetup {
     @SuppressWarnings("FieldCanBeLocal")
     private MonadicBinding<Boolean> p2pNetworkAndWalletInitialized;
     private List<BisqSetupCompleteListener> bisqSetupCompleteListeners = new ArrayList<>();
+    @Getter
+    private final StartupTimeline startupTimeline = new StartupTimeline();
+    private final JsonFileManager jsonFileManager;
 
     @Inject
     public BisqSetup(P2PNetworkSetup p2PNetworkSetup,
@@ -195,6 +205,7 @@ public class BisqSetup {
                      P2PService p2PService,
                      TradeManager tradeManager,
                      OpenOfferManager openOfferManager,
+                     MarketDepthService marketDepthService,
                      DisputeManager disputeManager,
                      Preferences preferences,
                      User user,
@@ -215,7 +226,8 @@ public class BisqSetup {
                      DisputeMsgEvents disputeMsgEvents,
                      PriceAlert priceAlert,
                      MarketAlerts marketAlerts,
-                     BSFormatter formatter) {
+                     BSFormatter formatter,
+                     @Named(Storage.STORAGE_DIR) File storageDir) {
 
 
         this.p2PNetworkSetup = p2PNetworkSetup;
@@ -230,6 +242,7 @@ public class BisqSetup {
         this.p2PService = p2PService;
         this.tradeManager = tradeManager;
         this.openOfferManager = openOfferManager;
+        this.marketDepthService = marketDepthService;
         this.disputeManager = disputeManager;
         this.preferences = preferences;
         this.user = user;
@@ -251,6 +264,7 @@ public class BisqSetup {
         this.priceAlert = priceAlert;
         this.marketAlerts = marketAlerts;
         this.formatter = formatter;
+        jsonFileManager = new JsonFileManager(storageDir);
     }
 
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -262,7 +276,7 @@ public class BisqSetup {
     }
 
     public void start() {
-        maybeReSyncSPVChain();
+        startupTimeline.measure("maybeReSyncSPVChain", null, this::maybeReSyncSPVChain);
         maybeShowTac();
     }
 
@@ -273,7 +287,7 @@ public class BisqSetup {
     private void step3() {
         readMapsFromResources();
         checkCryptoSetup();
-        checkForCorrectOSArchitecture();
+        startupTimeline.measure("checkForCorrectOSArchitecture", null, this::checkForCorrectOSArchitecture);
     }
 
     private void step4() {
@@ -281,14 +295,17 @@ public class BisqSetup {
     }
 
     private void step5() {
-        initDomainServices();
+        startupTimeline.measure("initDomainServices", null, this::initDomainServices);
 
-        bisqSetupCompleteListeners.forEach(BisqSetupCompleteListener::onSetupComplete);
+        startupTimeline.measure("onSetupCompleteListeners", null, () ->
+                bisqSetupCompleteListeners.forEach(BisqSetupCompleteListener::onSetupComplete));
 
         // We set that after calling the setupCompleteHandler to not trigger a popup from the dev dummy accounts
         // in MainViewModel
         maybeShowSecurityRecommendation();
         maybeShowLocalhostRunningInfo();
+
+        exportStartupTimeline();
     }
 
 
@@ -380,8 +397,11 @@ public class BisqSetup {
 
     private void maybeShowTac() {
         if (!preferences.isTacAccepted() && !DevEnv.isDevMode()) {
+            // Waiting for the user is part of the timeline so we see it on the critical path
+            startupTimeline.start("acceptTac");
             if (displayTacHandler != null)
                 displayTacHandler.accept(() -> {
+                    startupTimeline.end("acceptTac");
                     preferences.setTacAccepted(true);
                     step2();
                 });
@@ -391,6 +411,7 @@ public class BisqSetup {
     }
 
     private void checkIfLocalHostNodeIsRunning() {
+        startupTimeline.start("checkIfLocalHostNodeIsRunning");
         Thread checkIfLocalHostNodeIsRunningThread = new Thread(() -> {
             Thread.currentThread().setName("checkIfLocalHostNodeIsRunningThread");
             Socket socket = null;
@@ -399,12 +420,14 @@ public class BisqSetup {
                 socket.connect(new InetSocketAddress(InetAddresses.forString("127.0.0.1"),
                         BisqEnvironment.getBaseCurrencyNetwork().getParameters().getPort()), 5000);
                 log.info("Localhost Bitcoin node detected.");
+                startupTimeline.end("checkIfLocalHostNodeIsRunning");
                 UserThread.execute(() -> {
                     bisqEnvironment.setBitcoinLocalhostNodeRunning(true);
                     step3();
                 });
             } catch (Throwable e) {
                 log.info("Localhost Bitcoin node not detected.");
+                startupTimeline.end("checkIfLocalHostNodeIsRunning");
                 UserThread.execute(BisqSetup.this::step3);
             } finally {
                 if (socket != null) {
@@ -419,9 +442,12 @@ public class BisqSetup {
     }
 
     private void readMapsFromResources() {
+        startupTimeline.start("readMapsFromResources");
         SetupUtils.readFromResources(p2PService.getP2PDataStorage()).addListener((observable, oldValue, newValue) -> {
-            if (newValue)
+            if (newValue) {
+                startupTimeline.end("readMapsFromResources");
                 step4();
+            }
         });
     }
 
@@ -431,6 +457,7 @@ public class BisqSetup {
         // If users compile themselves they might miss that step and then would get an exception in the trade.
         // To avoid that we add here at startup a sample encryption and signing to see if it don't causes an exception.
         // See: https://github.com/bisq-network/exchange/blob/master/doc/build.md#7-enable-unlimited-strength-for-cryptographic-keys
+        startupTimeline.start("checkCryptoSetup");
         Thread checkCryptoThread = new Thread(() -> {
             try {
                 Thread.currentThread().setName("checkCryptoThread");
@@ -456,12 +483,15 @@ public class BisqSetup {
                 log.error(msg);
                 if (cryptoSetupFailedHandler != null)
                     cryptoSetupFailedHandler.accept(msg);
+            } finally {
+                startupTimeline.end("checkCryptoSetup");
             }
         });
         checkCryptoThread.start();
     }
 
     private void startP2pNetworkAndWallet() {
+        startupTimeline.start("startP2pNetworkAndWallet");
         ChangeListener<Boolean> walletInitializedListener = (observable, oldValue, newValue) -> {
             // TODO that seems to be called too often if Tor takes longer to start up...
             if (newValue && !p2pNetworkReady.get() && displayTorNetworkSettingsHandler != null)
@@ -476,6 +506,7 @@ public class BisqSetup {
                 displayTorNetworkSettingsHandler.accept(true);
         }, STARTUP_TIMEOUT_MINUTES, TimeUnit.MINUTES);
 
+        startupTimeline.start("p2pNetwork", "startP2pNetworkAndWallet");
         p2pNetworkReady = p2PNetworkSetup.init(this::initWallet, displayTorNetworkSettingsHandler);
 
         // We only init wallet service here if not using Tor for bitcoinj.
@@ -488,11 +519,14 @@ public class BisqSetup {
         p2pNetworkAndWalletInitialized = EasyBind.combine(walletInitialized, p2pNetworkReady,
                 (a, b) -> {
                     log.info("walletInitialized={}, p2pNetWorkReady={}", a, b);
+                    if (b)
+                        startupTimeline.end("p2pNetwork");
                     return a && b;
                 });
         p2pNetworkAndWalletInitialized.subscribe((observable, oldValue, newValue) -> {
             if (newValue) {
                 startupTimeout.stop();
+                startupTimeline.end("startP2pNetworkAndWallet");
                 walletInitialized.removeListener(walletInitializedListener);
                 if (displayTorNetworkSettingsHandler != null)
                     displayTorNetworkSettingsHandler.accept(false);
@@ -502,6 +536,7 @@ public class BisqSetup {
     }
 
     private void initWallet() {
+        startupTimeline.start("initWallet", "startP2pNetworkAndWallet");
         Runnable walletPasswordHandler = () -> {
             if (p2pNetworkReady.get())
                 p2PNetworkSetup.setSplashP2PNetworkAnimationVisible(true);
@@ -513,6 +548,7 @@ public class BisqSetup {
                         if (showFirstPopupIfResyncSPVRequestedHandler != null)
                             showFirstPopupIfResyncSPVRequestedHandler.run();
                     } else {
+                        startupTimeline.end("initWallet");
                         walletInitialized.set(true);
                     }
                 });
@@ -527,6 +563,7 @@ public class BisqSetup {
                         checkForLockedUpFunds();
                 },
                 () -> {
+                    startupTimeline.end("initWallet");
                     walletInitialized.set(true);
                 });
     }
@@ -563,11 +600,11 @@ public class BisqSetup {
 
         clock.start();
 
-        PaymentMethod.onAllServicesInitialized();
+        initService("PaymentMethod", PaymentMethod::onAllServicesInitialized);
 
-        disputeManager.onAllServicesInitialized();
+        initService("disputeManager", disputeManager::onAllServicesInitialized);
 
-        tradeManager.onAllServicesInitialized();
+        initService("tradeManager", tradeManager::onAllServicesInitialized);
         tradeManager.getTradableList().addListener((ListChangeListener<Trade>) change -> balanceModel.updateBalance());
         tradeManager.getAddressEntriesForAvailableBalanceStream()
                 .filter(addressEntry -> addressEntry.getOfferId() != null)
@@ -589,9 +626,10 @@ public class BisqSetup {
         balanceModel.updateBalance();
 
         openOfferManager.getObservableList().addListener((ListChangeListener<OpenOffer>) c -> balanceModel.updateBalance());
-        openOfferManager.onAllServicesInitialized();
+        initService("openOfferManager", openOfferManager::onAllServicesInitialized);
+        initService("marketDepthService", marketDepthService::onAllServicesInitialized);
 
-        arbitratorManager.onAllServicesInitialized();
+        initService("arbitratorManager", arbitratorManager::onAllServicesInitialized);
 
         alertManager.alertMessageProperty().addListener((observable, oldValue, newValue) ->
                 displayAlertIfPresent(newValue, false));
@@ -602,24 +640,24 @@ public class BisqSetup {
                 displayPrivateNotificationHandler.accept(newValue);
         });
 
-        p2PService.onAllServicesInitialized();
+        initService("p2PService", p2PService::onAllServicesInitialized);
 
-        feeService.onAllServicesInitialized();
+        initService("feeService", feeService::onAllServicesInitialized);
 
         if (DevEnv.isDaoActivated()) {
-            daoSetup.onAllServicesInitialized(errorMessage -> {
+            initService("daoSetup", () -> daoSetup.onAllServicesInitialized(errorMessage -> {
                 if (daoSetupErrorHandler != null)
                     daoSetupErrorHandler.accept(errorMessage);
-            });
+            }));
         }
 
-        tradeStatisticsManager.onAllServicesInitialized();
+        initService("tradeStatisticsManager", tradeStatisticsManager::onAllServicesInitialized);
 
-        accountAgeWitnessService.onAllServicesInitialized();
+        initService("accountAgeWitnessService", accountAgeWitnessService::onAllServicesInitialized);
 
-        priceFeedService.setCurrencyCodeOnInit();
+        initService("priceFeedService", priceFeedService::setCurrencyCodeOnInit);
 
-        filterManager.onAllServicesInitialized();
+        initService("filterManager", filterManager::onAllServicesInitialized);
         filterManager.addListener(filter -> {
             if (filter != null && filterWarningHandler != null) {
                 if (filter.getSeedNodes() != null && !filter.getSeedNodes().isEmpty())
@@ -630,16 +668,31 @@ public class BisqSetup {
             }
         });
 
-        mobileNotificationService.onAllServicesInitialized();
-        myOfferTakenEvents.onAllServicesInitialized();
-        tradeEvents.onAllServicesInitialized();
-        disputeMsgEvents.onAllServicesInitialized();
-        priceAlert.onAllServicesInitialized();
-        marketAlerts.onAllServicesInitialized();
+        initService("mobileNotificationService", mobileNotificationService::onAllServicesInitialized);
+        initService("myOfferTakenEvents", myOfferTakenEvents::onAllServicesInitialized);
+        initService("tradeEvents", tradeEvents::onAllServicesInitialized);
+        initService("disputeMsgEvents", disputeMsgEvents::onAllServicesInitialized);
+        initService("priceAlert", priceAlert::onAllServicesInitialized);
+        initService("marketAlerts", marketAlerts::onAllServicesInitialized);
 
         allBasicServicesInitialized = true;
     }
 
+    // Services are initialized on the user thread one after the other, as most of them are not thread safe and some
+    // rely on the init of services called before.
+    private void initService(String name, Runnable initializer) {
+        startupTimeline.measure(name, "initDomainServices", initializer);
+    }
+
+    private void exportStartupTimeline() {
+        log.info(startupTimeline.getSummary());
+        try {
+            jsonFileManager.writeToDisc(Utilities.objectToJson(startupTimeline.getReport()), "startup_timeline");
+        } catch (Throwable t) {
+            log.error("Could not write startup timeline: " + t.toString());
+        }
+    }
+
     private void maybeShowSecurityRecommendation() {
         String key = "remindPasswordAndBackup";
         user.getPaymentAccountsAsObservable().addListener((SetChangeListener<PaymentAccount>) change -> {
@@ -0,0 +1,179 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.app;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+
+/**
+ * Records start and end time and thread of the startup steps and of the service initialisations.
+ * Steps can start on one thread and end on another (e.g. after a network callback).
+ * Entries with a parent are nested steps (e.g. a service init inside initDomainServices).
+ * <p>
+ * The critical path is built from the top level steps: starting with the step which ended last we go back to the
+ * step which ended last before it was started, as that is the one which triggered it.
+ */
+@Slf4j
+public class StartupTimeline {
+
+    @Getter
+    public static class Entry {
+        private final String name;
+        @Nullable
+        private final String parent;
+        private final long startMs;
+        private final String startThread;
+        private long endMs = -1;
+        @Nullable
+        private String endThread;
+        private boolean onCriticalPath;
+
+        private Entry(String name, @Nullable String parent, long startMs, String startThread) {
+            this.name = name;
+            this.parent = parent;
+            this.startMs = startMs;
+            this.startThread = startThread;
+        }
+
+        public boolean isCompleted() {
+            return endMs >= 0;
+        }
+
+        public long getDurationMs() {
+            return isCompleted() ? endMs - startMs : -1;
+        }
+    }
+
+    private final long startTs = System.currentTimeMillis();
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // API
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public void start(String name) {
+        start(name, null);
+    }
+
+    public synchronized void start(String name, @Nullable String parent) {
+        if (entries.containsKey(name)) {
+            log.debug("Startup step {} was already started", name);
+            return;
+        }
+        entries.put(name, new Entry(name, parent, now(), Thread.currentThread().getName()));
+    }
+
+    public synchronized void end(String name) {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            log.warn("Startup step {} was ended but never started", name);
+        } else if (!entry.isCompleted()) {
+            entry.endMs = now();
+            entry.endThread = Thread.currentThread().getName();
+        }
+    }
+
+    public void measure(String name, @Nullable String parent, Runnable runnable) {
+        start(name, parent);
+        try {
+            runnable.run();
+        } finally {
+            end(name);
+        }
+    }
+
+    public synchronized List<Entry> getEntries() {
+        return new ArrayList<>(entries.values());
+    }
+
+    public synchronized List<Entry> getCriticalPath() {
+        List<Entry> topLevel = entries.values().stream()
+                .filter(e -> e.parent == null && e.isCompleted())
+                .collect(Collectors.toList());
+        List<Entry> path = new ArrayList<>();
+        Optional<Entry> current = topLevel.stream().max(Comparator.comparingLong(e -> e.endMs));
+        while (current.isPresent()) {
+            Entry entry = current.get();
+            path.add(0, entry);
+            current = topLevel.stream()
+                    .filter(e -> e != entry && !path.contains(e) && e.endMs <= entry.startMs)
+                    .max(Comparator.<Entry>comparingLong(e -> e.endMs).thenComparingLong(Entry::getDurationMs));
+        }
+        entries.values().forEach(e -> e.onCriticalPath = path.contains(e) ||
+                (e.parent != null && path.stream().anyMatch(p -> p.name.equals(e.parent))));
+        return path;
+    }
+
+    public synchronized Report getReport() {
+        getCriticalPath();
+        return new Report(startTs, now(), getEntries());
+    }
+
+    public synchronized String getSummary() {
+        StringBuilder sb = new StringBuilder("Startup timeline (ms since start / duration ms / thread):");
+        getCriticalPath();
+        entries.values().forEach(e -> sb.append("\n")
+                .append(e.parent != null ? "    " : "")
+                .append(e.onCriticalPath ? "* " : "  ")
+                .append(e.name).append(": ")
+                .append(e.startMs).append(" / ")
+                .append(e.isCompleted() ? String.valueOf(e.getDurationMs()) : "not completed").append(" / ")
+                .append(e.startThread)
+                .append(e.endThread != null && !e.endThread.equals(e.startThread) ? " -> " + e.endThread : ""));
+        return sb.toString();
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private long now() {
+        return System.currentTimeMillis() - startTs;
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Report
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    // Used for the json export
+    @Getter
+    public static class Report {
+        private final long startTimestamp;
+        private final long totalMs;
+        private final List<Entry> entries;
+
+        private Report(long startTimestamp, long totalMs, List<Entry> entries) {
+            this.startTimestamp = startTimestamp;
+            this.totalMs = totalMs;
+            this.entries = entries;
+        }
+    }
+}
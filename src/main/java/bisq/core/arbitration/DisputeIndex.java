@@ -0,0 +1,125 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.arbitration;
+
+import bisq.core.arbitration.messages.DisputeCommunicationMessage;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps lookup maps over the disputes of a DisputeList so that we don't need to scan all disputes (and all their
+ * messages) for each incoming message or ack. The index follows changes of the observed lists, so callers keep
+ * adding disputes and messages the usual way.
+ */
+@Slf4j
+class DisputeIndex {
+    private final Map<String, List<Dispute>> disputesByTradeId = new HashMap<>();
+    private final Map<String, DisputeCommunicationMessage> messagesByUid = new HashMap<>();
+    // Dispute's hashCode changes with its messages, so we must not use a hash based map for it
+    private final Map<Dispute, ListChangeListener<DisputeCommunicationMessage>> messageListeners = new IdentityHashMap<>();
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Constructor
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    DisputeIndex(ObservableList<Dispute> disputes) {
+        disputes.forEach(this::addDispute);
+        disputes.addListener((ListChangeListener<Dispute>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(this::removeDispute);
+                change.getAddedSubList().forEach(this::addDispute);
+            }
+        });
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // API
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    Optional<Dispute> findDispute(String tradeId, int traderId) {
+        return getDisputeStream(tradeId).filter(e -> e.getTraderId() == traderId).findAny();
+    }
+
+    Stream<Dispute> getDisputeStream(String tradeId) {
+        return disputesByTradeId.getOrDefault(tradeId, Collections.emptyList()).stream();
+    }
+
+    Optional<DisputeCommunicationMessage> findMessage(String uid) {
+        return Optional.ofNullable(messagesByUid.get(uid));
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private void addDispute(Dispute dispute) {
+        if (messageListeners.containsKey(dispute))
+            return;
+
+        disputesByTradeId.computeIfAbsent(dispute.getTradeId(), k -> new ArrayList<>()).add(dispute);
+
+        ObservableList<DisputeCommunicationMessage> messages = dispute.getDisputeCommunicationMessages();
+        messages.forEach(this::addMessage);
+        ListChangeListener<DisputeCommunicationMessage> listener = change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(msg -> messagesByUid.remove(msg.getUid()));
+                change.getAddedSubList().forEach(this::addMessage);
+            }
+        };
+        messages.addListener(listener);
+        messageListeners.put(dispute, listener);
+    }
+
+    private void removeDispute(Dispute dispute) {
+        ListChangeListener<DisputeCommunicationMessage> listener = messageListeners.remove(dispute);
+        if (listener == null)
+            return;
+
+        ObservableList<DisputeCommunicationMessage> messages = dispute.getDisputeCommunicationMessages();
+        messages.removeListener(listener);
+        messages.forEach(msg -> messagesByUid.remove(msg.getUid()));
+
+        List<Dispute> list = disputesByTradeId.get(dispute.getTradeId());
+        if (list != null) {
+            list.removeIf(e -> e == dispute);
+            if (list.isEmpty())
+                disputesByTradeId.remove(dispute.getTradeId());
+        }
+    }
+
+    private void addMessage(DisputeCommunicationMessage msg) {
+        if (messagesByUid.containsKey(msg.getUid()))
+            log.debug("We have already indexed a disputeCommunicationMessage with uid {}", msg.getUid());
+        messagesByUid.put(msg.getUid(), msg);
+    }
+}
@@ -109,6 +109,7 @@ public class DisputeManager implements PersistedDataHost {
     private final KeyRing keyRing;
     private final Storage<DisputeList> disputeStorage;
     private DisputeList disputes;
+    private DisputeIndex disputeIndex;
     private final String disputeInfo;
     private final CopyOnWriteArraySet<DecryptedMessageWithPubKey> decryptedMailboxMessageWithPubKeys = new CopyOnWriteArraySet<>();
     private final CopyOnWriteArraySet<DecryptedMessageWithPubKey> decryptedDirectMessageWithPubKeys = new CopyOnWriteArraySet<>();
@@ -173,6 +174,7 @@ public class DisputeManager implements PersistedDataHost {
         disputes = new DisputeList(disputeStorage);
         disputes.readPersisted();
         disputes.stream().forEach(dispute -> dispute.setStorage(disputeStorage));
+        disputeIndex = new DisputeIndex(disputes.getList());
     }
 
     public void onAllServicesInitialized() {
@@ -298,16 +300,14 @@ public class DisputeManager implements PersistedDataHost {
                         ackMessage.getSourceMsgClassName(), ackMessage.getSourceId(), ackMessage.getErrorMessage());
             }
 
-            disputes.getList().stream()
-                    .flatMap(dispute -> dispute.getDisputeCommunicationMessages().stream())
-                    .filter(msg -> msg.getUid().equals(ackMessage.getSourceUid()))
-                    .forEach(msg -> {
+            disputeIndex.findMessage(ackMessage.getSourceUid())
+                    .ifPresent(msg -> {
                         if (ackMessage.isSuccess())
                             msg.setAcknowledged(true);
                         else
                             msg.setAckError(ackMessage.getErrorMessage());
+                        disputes.persist();
                     });
-            disputes.persist();
 
             if (decryptedMessageWithPubKey != null)
                 p2PService.removeEntryFromMailbox(decryptedMessageWithPubKey);
@@ -1114,7 +1114,7 @@ public class DisputeManager implements PersistedDataHost {
     }
 
     private Optional<Dispute> findDispute(String tradeId, int traderId) {
-        return disputes.stream().filter(e -> e.getTradeId().equals(tradeId) && e.getTraderId() == traderId).findAny();
+        return disputeIndex.findDispute(tradeId, traderId);
     }
 
     public Optional<Dispute> findOwnDispute(String tradeId) {
@@ -1122,7 +1122,7 @@ public class DisputeManager implements PersistedDataHost {
     }
 
     private Stream<Dispute> getDisputeStream(String tradeId) {
-        return disputes.stream().filter(e -> e.getTradeId().equals(tradeId));
+        return disputeIndex.getDisputeStream(tradeId);
     }
 
     private void cleanupRetryMap(String uid) {
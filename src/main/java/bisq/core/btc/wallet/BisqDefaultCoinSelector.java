@@ -31,12 +31,17 @@ import org.bitcoinj.wallet.CoinSelector;
 import java.math.BigInteger;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
+import javax.annotation.Nullable;
+
 /**
  * Used from org.bitcoinj.wallet.DefaultCoinSelector but added selectOutput method and changed static methods to
  * instance methods.
@@ -49,7 +54,13 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public abstract class BisqDefaultCoinSelector implements CoinSelector {
 
+    private static final int BRANCH_AND_BOUND_MAX_TRIES = 100_000;
+
     protected final boolean permitForeignPendingTx;
+    // If set we search for the combination of outputs with the least change before we fall back to the default
+    // selection by coin age.
+    @Setter
+    private boolean useBranchAndBound;
 
     public CoinSelection select(Coin target, Set<TransactionOutput> candidates) {
         return select(target, new ArrayList<>(candidates));
@@ -65,17 +76,37 @@ public abstract class BisqDefaultCoinSelector implements CoinSelector {
 
     @Override
     public CoinSelection select(Coin target, List<TransactionOutput> candidates) {
-        ArrayList<TransactionOutput> selected = new ArrayList<>();
-        // Sort the inputs by age*value so we get the highest "coin days" spent.
-        ArrayList<TransactionOutput> sortedOutputs = new ArrayList<>(candidates);
+        // We filter the spendable outputs first so we sort and iterate only over those.
+        ArrayList<TransactionOutput> spendableOutputs = new ArrayList<>();
+        for (TransactionOutput output : candidates) {
+            if (output.getParentTransaction() != null &&
+                    isTxSpendable(output.getParentTransaction()) &&
+                    isTxOutputSpendable(output)) {
+                spendableOutputs.add(output);
+            }
+        }
+
         // If we spend all we don't need to sort
-        if (!target.equals(NetworkParameters.MAX_MONEY))
-            sortOutputs(sortedOutputs);
+        if (target.equals(NetworkParameters.MAX_MONEY))
+            return selectFromSortedOutputs(target.value, spendableOutputs);
+
+        // Sort the inputs by age*value so we get the highest "coin days" spent.
+        sortOutputs(spendableOutputs);
+
+        if (useBranchAndBound) {
+            CoinSelection coinSelection = selectWithMinimalChange(target.value, spendableOutputs);
+            if (coinSelection != null)
+                return coinSelection;
+        }
+
+        return selectFromSortedOutputs(target.value, spendableOutputs);
+    }
 
+    private CoinSelection selectFromSortedOutputs(long targetValue, List<TransactionOutput> sortedOutputs) {
+        ArrayList<TransactionOutput> selected = new ArrayList<>();
         // Now iterate over the sorted outputs until we have got as close to the target as possible or a little
         // bit over (excessive value will be change).
         long total = 0;
-        long targetValue = target.value;
         for (TransactionOutput output : sortedOutputs) {
             if (total >= targetValue) {
                 long change = total - targetValue;
@@ -83,18 +114,36 @@ public abstract class BisqDefaultCoinSelector implements CoinSelector {
                     break;
             }
 
-            if (output.getParentTransaction() != null &&
-                    isTxSpendable(output.getParentTransaction()) &&
-                    isTxOutputSpendable(output)) {
-                selected.add(output);
-                total += output.getValue().value;
-            }
+            selected.add(output);
+            total += output.getValue().value;
         }
         // Total may be lower than target here, if the given candidates were insufficient to create to requested
         // transaction.
         return new CoinSelection(Coin.valueOf(total), selected);
     }
 
+    @Nullable
+    private CoinSelection selectWithMinimalChange(long targetValue, List<TransactionOutput> sortedOutputs) {
+        // The search works best with values in descending order
+        List<TransactionOutput> outputs = new ArrayList<>(sortedOutputs);
+        outputs.sort(Comparator.comparing(TransactionOutput::getValue).reversed());
+        long[] values = outputs.stream().mapToLong(output -> output.getValue().value).toArray();
+        boolean[] selection = BranchAndBoundCoinSelection.select(values, targetValue,
+                Restrictions.getMinNonDustOutput().value, BRANCH_AND_BOUND_MAX_TRIES);
+        if (selection == null)
+            return null;
+
+        ArrayList<TransactionOutput> selected = new ArrayList<>();
+        long total = 0;
+        for (int i = 0; i < selection.length; i++) {
+            if (selection[i]) {
+                selected.add(outputs.get(i));
+                total += values[i];
+            }
+        }
+        return new CoinSelection(Coin.valueOf(total), selected);
+    }
+
     public Coin getChange(Coin target, CoinSelection coinSelection) throws InsufficientMoneyException {
         long value = target.value;
         long available = coinSelection.valueGathered.value;
@@ -118,24 +167,23 @@ public abstract class BisqDefaultCoinSelector implements CoinSelector {
     abstract boolean isTxOutputSpendable(TransactionOutput output);
 
     protected void sortOutputs(ArrayList<TransactionOutput> outputs) {
-        Collections.sort(outputs, (a, b) -> {
-            int depth1 = a.getParentTransactionDepthInBlocks();
-            int depth2 = b.getParentTransactionDepthInBlocks();
-            Coin aValue = a.getValue();
-            Coin bValue = b.getValue();
-            BigInteger aCoinDepth = BigInteger.valueOf(aValue.value).multiply(BigInteger.valueOf(depth1));
-            BigInteger bCoinDepth = BigInteger.valueOf(bValue.value).multiply(BigInteger.valueOf(depth2));
-            int c1 = bCoinDepth.compareTo(aCoinDepth);
+        // We compute the sort keys only once per output and not at each comparison.
+        Map<TransactionOutput, BigInteger> coinDepthMap = new IdentityHashMap<>();
+        Map<TransactionOutput, BigInteger> hashMap = new IdentityHashMap<>();
+        outputs.forEach(output -> {
+            coinDepthMap.put(output, BigInteger.valueOf(output.getValue().value)
+                    .multiply(BigInteger.valueOf(output.getParentTransactionDepthInBlocks())));
+            hashMap.put(output, output.getParentTransactionHash() != null ?
+                    output.getParentTransactionHash().toBigInteger() : BigInteger.ZERO);
+        });
+        outputs.sort((a, b) -> {
+            int c1 = coinDepthMap.get(b).compareTo(coinDepthMap.get(a));
             if (c1 != 0) return c1;
             // The "coin*days" destroyed are equal, sort by value alone to get the lowest transaction size.
-            int c2 = bValue.compareTo(aValue);
+            int c2 = b.getValue().compareTo(a.getValue());
             if (c2 != 0) return c2;
             // They are entirely equivalent (possibly pending) so sort by hash to ensure a total ordering.
-            BigInteger aHash = a.getParentTransactionHash() != null ?
-                    a.getParentTransactionHash().toBigInteger() : BigInteger.ZERO;
-            BigInteger bHash = b.getParentTransactionHash() != null ?
-                    b.getParentTransactionHash().toBigInteger() : BigInteger.ZERO;
-            return aHash.compareTo(bHash);
+            return hashMap.get(a).compareTo(hashMap.get(b));
         });
     }
 
@@ -0,0 +1,95 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+package bisq.core.btc.wallet;
+
+import javax.annotation.Nullable;
+
+/**
+ * Depth first search with pruning over the candidate values to find the selection with the least change.
+ * A change is only accepted if it is 0 or at least minChange, as a smaller change output would be dust.
+ * The search is limited by maxTries so it is bounded also for wallets with many outputs.
+ */
+class BranchAndBoundCoinSelection {
+
+    /**
+     * @param values    Values of the candidates, sorted in descending order.
+     * @param target    The target value.
+     * @param minChange The smallest non zero change we accept.
+     * @param maxTries  Max. number of search steps.
+     * @return The selected flags by index of values or null if no selection was found.
+     */
+    @Nullable
+    static boolean[] select(long[] values, long target, long minChange, int maxTries) {
+        int size = values.length;
+        // remaining[i] is the sum of all values from index i on
+        long[] remaining = new long[size + 1];
+        for (int i = size - 1; i >= 0; i--)
+            remaining[i] = remaining[i + 1] + values[i];
+
+        if (remaining[0] < target)
+            return null;
+
+        boolean[] selection = new boolean[size];
+        boolean[] bestSelection = null;
+        long bestChange = Long.MAX_VALUE;
+        long total = 0;
+        int depth = 0;
+        for (int tries = 0; tries < maxTries; tries++) {
+            boolean backtrack;
+            if (total + remaining[depth] < target) {
+                // We cannot reach the target anymore
+                backtrack = true;
+            } else if (bestSelection != null && total - target >= bestChange) {
+                // We cannot improve the best selection anymore
+                backtrack = true;
+            } else if (total >= target) {
+                long change = total - target;
+                if (change == 0 || change >= minChange) {
+                    bestChange = change;
+                    bestSelection = selection.clone();
+                    if (change == 0)
+                        break;
+                    // Adding more inputs would only increase the change
+                    backtrack = true;
+                } else {
+                    // The change would be dust, adding more inputs might lead to a valid change
+                    backtrack = depth == size;
+                }
+            } else {
+                backtrack = false;
+            }
+
+            if (backtrack) {
+                // We go back to the last included value and exclude it
+                depth--;
+                while (depth >= 0 && !selection[depth])
+                    depth--;
+                if (depth < 0)
+                    break;
+
+                selection[depth] = false;
+                total -= values[depth];
+                depth++;
+            } else {
+                selection[depth] = true;
+                total += values[depth];
+                depth++;
+            }
+        }
+        return bestSelection;
+    }
+}
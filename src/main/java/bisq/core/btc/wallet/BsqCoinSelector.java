@@ -33,17 +33,20 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class BsqCoinSelector extends BisqDefaultCoinSelector {
     private BsqStateService bsqStateService;
+    private final TxOutputSpendableCache spendableCache;
 
     @Inject
     public BsqCoinSelector(BsqStateService bsqStateService) {
         super(true);
         this.bsqStateService = bsqStateService;
+        spendableCache = new TxOutputSpendableCache(bsqStateService);
     }
 
     @Override
     protected boolean isTxOutputSpendable(TransactionOutput output) {
         // output.getParentTransaction() cannot be null as it is checked in calling method
         return output.getParentTransaction() != null &&
-                bsqStateService.isTxOutputSpendable(new TxOutputKey(output.getParentTransaction().getHashAsString(), output.getIndex()));
+                spendableCache.isSpendable(new TxOutputKey(output.getParentTransaction().getHashAsString(), output.getIndex()),
+                        bsqStateService::isTxOutputSpendable);
     }
 }
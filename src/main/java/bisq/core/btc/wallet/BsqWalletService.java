@@ -192,6 +192,17 @@ public class BsqWalletService extends WalletService implements BsqStateListener
     public void onParseBlockChainComplete() {
     }
 
+    @Override
+    public boolean requiresPerBlockEvents() {
+        return false;
+    }
+
+    @Override
+    public void onBlocksApplied(int fromHeight, int toHeight) {
+        if (isWalletReady())
+            updateBsqWalletTransactions();
+    }
+
 
     ///////////////////////////////////////////////////////////////////////////////////////////
     // Overridden Methods
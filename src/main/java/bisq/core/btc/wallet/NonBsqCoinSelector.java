@@ -35,11 +35,13 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class NonBsqCoinSelector extends BisqDefaultCoinSelector {
     private BsqStateService bsqStateService;
+    private final TxOutputSpendableCache spendableCache;
 
     @Inject
     public NonBsqCoinSelector(BsqStateService bsqStateService) {
         super(true);
         this.bsqStateService = bsqStateService;
+        spendableCache = new TxOutputSpendableCache(bsqStateService);
     }
 
     @Override
@@ -53,6 +55,10 @@ public class NonBsqCoinSelector extends BisqDefaultCoinSelector {
             return false;
 
         TxOutputKey key = new TxOutputKey(parentTransaction.getHashAsString(), output.getIndex());
+        return spendableCache.isSpendable(key, this::isBtcTxOutput);
+    }
+
+    private boolean isBtcTxOutput(TxOutputKey key) {
         // It might be that we received BTC in a non-BSQ tx so that will not be stored in out state and not found.
         // So we consider any txOutput which is not in the state as BTC output.
         boolean outputIsNotInBsqState = !bsqStateService.existsTxOutput(key);
@@ -0,0 +1,122 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+package bisq.core.btc.wallet;
+
+import org.bitcoinj.core.PeerAddress;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import lombok.Getter;
+
+import javax.annotation.Nullable;
+
+/**
+ * Keeps track of the broadcast of a transaction: its state, the number of broadcast attempts and the delay after
+ * which each peer has announced the tx back to us. Used for monitoring why broadcasts are slow and for deciding
+ * about a rebroadcast.
+ */
+public class TxBroadcastRecord {
+    public enum State {
+        BROADCASTING,
+        SUCCEEDED,
+        TIMED_OUT,
+        REBROADCASTING,
+        FAILED,
+        CONFIRMED
+    }
+
+    @Getter
+    private final String txId;
+    @Getter
+    private final long creationDate;
+    @Getter
+    private State state = State.BROADCASTING;
+    @Getter
+    private int attempts;
+    private long lastAttemptDate;
+    @Getter
+    private long lastStateChangeDate;
+    @Nullable
+    @Getter
+    private String errorMessage;
+    // Delay in ms between our last broadcast attempt and the peer announcing the tx
+    private final Map<PeerAddress, Long> delayByPeer = new LinkedHashMap<>();
+    private final LongSupplier clock;
+
+    TxBroadcastRecord(String txId) {
+        this(txId, System::currentTimeMillis);
+    }
+
+    TxBroadcastRecord(String txId, LongSupplier clock) {
+        this.txId = txId;
+        this.clock = clock;
+        creationDate = clock.getAsLong();
+        lastStateChangeDate = creationDate;
+        onBroadcastAttempt();
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // API
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    synchronized void onBroadcastAttempt() {
+        attempts++;
+        lastAttemptDate = clock.getAsLong();
+    }
+
+    synchronized void onPeerSeen(PeerAddress peerAddress) {
+        delayByPeer.putIfAbsent(peerAddress, clock.getAsLong() - lastAttemptDate);
+    }
+
+    synchronized void setState(State state) {
+        this.state = state;
+        lastStateChangeDate = clock.getAsLong();
+    }
+
+    synchronized void setFailed(String errorMessage) {
+        this.errorMessage = errorMessage;
+        setState(State.FAILED);
+    }
+
+    public synchronized Map<PeerAddress, Long> getDelayByPeer() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(delayByPeer));
+    }
+
+    public synchronized int getNumSeenPeers() {
+        return delayByPeer.size();
+    }
+
+    public synchronized boolean isCompleted() {
+        return state == State.CONFIRMED || state == State.FAILED;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "TxBroadcastRecord{" +
+                "\n     txId='" + txId + '\'' +
+                ",\n     state=" + state +
+                ",\n     attempts=" + attempts +
+                ",\n     durationMs=" + (lastStateChangeDate - creationDate) +
+                ",\n     errorMessage=" + errorMessage +
+                ",\n     delayByPeer=" + delayByPeer +
+                "\n}";
+    }
+}
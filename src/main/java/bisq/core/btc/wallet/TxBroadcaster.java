@@ -22,13 +22,21 @@ import bisq.common.UserThread;
 
 import org.bitcoinj.core.PeerGroup;
 import org.bitcoinj.core.Transaction;
+import org.bitcoinj.core.TransactionConfidence;
 import org.bitcoinj.wallet.Wallet;
 
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -85,8 +93,28 @@ public class TxBroadcaster {
         void onFailure(TxBroadcastException exception);
     }
 
+    enum RebroadcastDecision {
+        NONE,
+        REBROADCAST,
+        GIVE_UP
+    }
+
     private static final int DEFAULT_BROADCAST_TIMEOUT = 20;
+    private static final int REBROADCAST_INTERVAL_SEC = 60;
+    static final int MAX_BROADCAST_ATTEMPTS = 5;
+    static final long MAX_RECORD_AGE_MS = TimeUnit.HOURS.toMillis(24);
     private static Map<String, Timer> broadcastTimerMap = new HashMap<>();
+    private static Map<String, TxBroadcastRecord> broadcastRecordMap = new ConcurrentHashMap<>();
+    // Removes the confidence listener of a record which is not completed yet
+    private static Map<String, Runnable> confidenceListenerRemoverMap = new ConcurrentHashMap<>();
+
+    public static Collection<TxBroadcastRecord> getBroadcastRecords() {
+        return new ArrayList<>(broadcastRecordMap.values());
+    }
+
+    public static Optional<TxBroadcastRecord> getBroadcastRecord(String txId) {
+        return Optional.ofNullable(broadcastRecordMap.get(txId));
+    }
 
     public static void broadcastTx(Wallet wallet, PeerGroup peerGroup, Transaction localTx, Callback callback) {
         broadcastTx(wallet, peerGroup, localTx, callback, DEFAULT_BROADCAST_TIMEOUT);
@@ -95,10 +123,13 @@ public class TxBroadcaster {
     public static void broadcastTx(Wallet wallet, PeerGroup peerGroup, Transaction tx, Callback callback, int delayInSec) {
         Timer timeoutTimer;
         final String txId = tx.getHashAsString();
+        TxBroadcastRecord record = addBroadcastRecord(tx);
         if (!broadcastTimerMap.containsKey(txId)) {
             timeoutTimer = UserThread.runAfter(() -> {
-                log.warn("Broadcast of tx {} not completed after {} sec.", txId, delayInSec);
+                log.warn("Broadcast of tx {} not completed after {} sec. {}", txId, delayInSec, record);
                 stopAndRemoveTimer(txId);
+                record.setState(TxBroadcastRecord.State.TIMED_OUT);
+                scheduleRebroadcast(peerGroup, tx, record);
                 UserThread.execute(() -> callback.onTimeout(new TxBroadcastTimeoutException(tx, delayInSec, wallet)));
             }, delayInSec);
 
@@ -116,6 +147,7 @@ public class TxBroadcaster {
                 if (result != null) {
                     if (txId.equals(result.getHashAsString())) {
                         // We expect that there is still a timeout in our map, otherwise the timeout got triggered
+                        onBroadcastSucceeded(record);
                         if (broadcastTimerMap.containsKey(txId)) {
                             wallet.maybeCommitTx(tx);
                             stopAndRemoveTimer(txId);
@@ -128,10 +160,12 @@ public class TxBroadcaster {
                         }
                     } else {
                         stopAndRemoveTimer(txId);
+                        record.setFailed("Tx malleability. Returned txId=" + result.getHashAsString());
                         UserThread.execute(() -> callback.onTxMalleability(new TxMalleabilityException(tx, result)));
                     }
                 } else {
                     stopAndRemoveTimer(txId);
+                    record.setFailed("Transaction returned from the broadcastTransaction call back is null.");
                     UserThread.execute(() -> callback.onFailure(new TxBroadcastException("Transaction returned from the " +
                             "broadcastTransaction call back is null.", txId)));
                 }
@@ -140,12 +174,121 @@ public class TxBroadcaster {
             @Override
             public void onFailure(@NotNull Throwable throwable) {
                 stopAndRemoveTimer(txId);
+                record.setFailed(throwable.toString());
                 UserThread.execute(() -> callback.onFailure(new TxBroadcastException("We got an onFailure from " +
                         "the peerGroup.broadcastTransaction callback.", throwable)));
             }
         });
     }
 
+    private static TxBroadcastRecord addBroadcastRecord(Transaction tx) {
+        removeOutdatedRecords(broadcastRecordMap, System.currentTimeMillis())
+                .forEach(outdatedRecord -> removeConfidenceListener(outdatedRecord.getTxId()));
+
+        TxBroadcastRecord existingRecord = broadcastRecordMap.get(tx.getHashAsString());
+        if (existingRecord != null) {
+            existingRecord.onBroadcastAttempt();
+            existingRecord.setState(TxBroadcastRecord.State.BROADCASTING);
+            return existingRecord;
+        }
+
+        TxBroadcastRecord record = new TxBroadcastRecord(tx.getHashAsString());
+        broadcastRecordMap.put(record.getTxId(), record);
+        TransactionConfidence txConfidence = tx.getConfidence();
+        TransactionConfidence.Listener listener = new TransactionConfidence.Listener() {
+            @Override
+            public void onConfidenceChanged(TransactionConfidence confidence, ChangeReason reason) {
+                if (reason == ChangeReason.SEEN_PEERS) {
+                    confidence.getBroadcastBy().forEachRemaining(record::onPeerSeen);
+                } else if (confidence.getConfidenceType() == TransactionConfidence.ConfidenceType.BUILDING) {
+                    record.setState(TxBroadcastRecord.State.CONFIRMED);
+                    log.info("Broadcast tx {} got confirmed. {}", record.getTxId(), record);
+                    removeConfidenceListener(record.getTxId());
+                } else if (confidence.getConfidenceType() == TransactionConfidence.ConfidenceType.DEAD) {
+                    record.setFailed("Tx is dead");
+                    removeConfidenceListener(record.getTxId());
+                }
+            }
+        };
+        txConfidence.addEventListener(listener);
+        confidenceListenerRemoverMap.put(record.getTxId(), () -> txConfidence.removeEventListener(listener));
+        return record;
+    }
+
+    private static void removeConfidenceListener(String txId) {
+        Runnable remover = confidenceListenerRemoverMap.remove(txId);
+        if (remover != null)
+            remover.run();
+    }
+
+    private static void onBroadcastSucceeded(TxBroadcastRecord record) {
+        if (record.getState() != TxBroadcastRecord.State.CONFIRMED) {
+            record.setState(TxBroadcastRecord.State.SUCCEEDED);
+            if (record.getAttempts() > 1)
+                log.info("Broadcast of tx {} succeeded after {} attempts. {}", record.getTxId(), record.getAttempts(), record);
+        }
+    }
+
+    // If the broadcast timed out and no peer has announced the tx back to us, we broadcast it again. BitcoinJ only
+    // rebroadcasts pending txs when a new block arrives, which might be too late for the trade protocol.
+    private static void scheduleRebroadcast(PeerGroup peerGroup, Transaction tx, TxBroadcastRecord record) {
+        UserThread.runAfter(() -> {
+            TransactionConfidence confidence = tx.getConfidence();
+            RebroadcastDecision decision = getRebroadcastDecision(record.getState(),
+                    confidence.getConfidenceType(),
+                    confidence.numBroadcastPeers(),
+                    record.getAttempts());
+            if (decision == RebroadcastDecision.NONE)
+                return;
+
+            if (decision == RebroadcastDecision.GIVE_UP) {
+                log.warn("Broadcast of tx {} did not succeed after {} attempts. We give up. {}",
+                        record.getTxId(), record.getAttempts(), record);
+                record.setFailed("No peer has seen the tx after " + record.getAttempts() + " broadcast attempts");
+                return;
+            }
+
+            log.info("No peer has seen tx {} yet. We broadcast it again.", record.getTxId());
+            record.onBroadcastAttempt();
+            record.setState(TxBroadcastRecord.State.REBROADCASTING);
+            Futures.addCallback(peerGroup.broadcastTransaction(tx).future(), new FutureCallback<Transaction>() {
+                @Override
+                public void onSuccess(@Nullable Transaction result) {
+                    onBroadcastSucceeded(record);
+                }
+
+                @Override
+                public void onFailure(@NotNull Throwable throwable) {
+                    log.warn("Rebroadcast of tx {} failed. {}", record.getTxId(), throwable.toString());
+                }
+            });
+            scheduleRebroadcast(peerGroup, tx, record);
+        }, REBROADCAST_INTERVAL_SEC);
+    }
+
+    static RebroadcastDecision getRebroadcastDecision(TxBroadcastRecord.State state,
+                                                      TransactionConfidence.ConfidenceType confidenceType,
+                                                      int numBroadcastPeers,
+                                                      int attempts) {
+        if (state != TxBroadcastRecord.State.TIMED_OUT && state != TxBroadcastRecord.State.REBROADCASTING)
+            return RebroadcastDecision.NONE;
+
+        if (confidenceType != TransactionConfidence.ConfidenceType.PENDING || numBroadcastPeers > 0)
+            return RebroadcastDecision.NONE;
+
+        return attempts >= MAX_BROADCAST_ATTEMPTS ? RebroadcastDecision.GIVE_UP : RebroadcastDecision.REBROADCAST;
+    }
+
+    // We remove old entries so the map does not grow over time. Completed records are kept for the same time so
+    // their result can still be looked up. Returns the removed records.
+    static List<TxBroadcastRecord> removeOutdatedRecords(Map<String, TxBroadcastRecord> recordMap, long now) {
+        List<TxBroadcastRecord> outdatedRecords = recordMap.values().stream()
+                .filter(e -> now - e.getCreationDate() > MAX_RECORD_AGE_MS)
+                .collect(Collectors.toList());
+        outdatedRecords.forEach(e -> recordMap.remove(e.getTxId()));
+        return outdatedRecords;
+    }
+
     private static void stopAndRemoveTimer(String txId) {
         Timer timer = broadcastTimerMap.get(txId);
         if (timer != null)
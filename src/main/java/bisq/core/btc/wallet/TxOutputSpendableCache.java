@@ -0,0 +1,52 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+package bisq.core.btc.wallet;
+
+import bisq.core.dao.state.BsqStateService;
+import bisq.core.dao.state.blockchain.Block;
+import bisq.core.dao.state.blockchain.TxOutputKey;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+/**
+ * Caches the results of BSQ state lookups for wallet outputs. Coin selection runs several times per user action and
+ * the lookups in the BSQ state are expensive. The BSQ state only changes if a new block gets parsed, so we clear
+ * the cache if the last block has changed.
+ */
+class TxOutputSpendableCache {
+    private final BsqStateService bsqStateService;
+    private final Map<TxOutputKey, Boolean> map = new HashMap<>();
+    @Nullable
+    private String lastBlockHash;
+
+    TxOutputSpendableCache(BsqStateService bsqStateService) {
+        this.bsqStateService = bsqStateService;
+    }
+
+    synchronized boolean isSpendable(TxOutputKey key, Predicate<TxOutputKey> lookup) {
+        String blockHash = bsqStateService.getLastBlock().map(Block::getHash).orElse(null);
+        if (blockHash == null || !blockHash.equals(lastBlockHash)) {
+            map.clear();
+            lastBlockHash = blockHash;
+        }
+        return map.computeIfAbsent(key, lookup::test);
+    }
+}
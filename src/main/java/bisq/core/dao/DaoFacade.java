@@ -150,6 +150,16 @@ public class DaoFacade {
             @Override
             public void onParseBlockChainComplete() {
             }
+
+            @Override
+            public boolean requiresPerBlockEvents() {
+                return false;
+            }
+
+            @Override
+            public void onBlocksApplied(int fromHeight, int toHeight) {
+                onNewBlockHeight(toHeight);
+            }
         });
     }
 
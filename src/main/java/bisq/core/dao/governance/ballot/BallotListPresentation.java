@@ -86,6 +86,17 @@ public class BallotListPresentation implements BallotListService.BallotListChang
         onListChanged(ballotListService.getBallotList().getList());
     }
 
+    @Override
+    public boolean requiresPerBlockEvents() {
+        return false;
+    }
+
+    @Override
+    public void onBlocksApplied(int fromHeight, int toHeight) {
+        onNewBlockHeight(toHeight);
+        onListChanged(ballotListService.getBallotList().getList());
+    }
+
 
     ///////////////////////////////////////////////////////////////////////////////////////////
     // BallotListService.BallotListChangeListener
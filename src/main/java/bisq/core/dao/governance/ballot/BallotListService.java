@@ -20,6 +20,7 @@ package bisq.core.dao.governance.ballot;
 import bisq.core.app.BisqEnvironment;
 import bisq.core.dao.DaoSetupService;
 import bisq.core.dao.governance.ballot.vote.Vote;
+import bisq.core.dao.governance.proposal.Proposal;
 import bisq.core.dao.governance.proposal.ProposalService;
 import bisq.core.dao.governance.proposal.storage.appendonly.ProposalPayload;
 
@@ -30,7 +31,10 @@ import javax.inject.Inject;
 
 import javafx.collections.ListChangeListener;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import lombok.extern.slf4j.Slf4j;
@@ -52,6 +56,8 @@ public class BallotListService implements PersistedDataHost, DaoSetupService {
     private final Storage<BallotList> storage;
 
     private final BallotList ballotList = new BallotList();
+    // Index of ballotList by proposal txId, so we don't need to scan all ballots of all cycles for each proposal
+    private final Map<String, Ballot> ballotsByTxId = new HashMap<>();
     private final List<BallotListChangeListener> listeners = new CopyOnWriteArrayList<>();
 
     @Inject
@@ -72,13 +78,13 @@ public class BallotListService implements PersistedDataHost, DaoSetupService {
             if (c.wasAdded()) {
                 c.getAddedSubList().stream()
                         .map(ProposalPayload::getProposal)
-                        .filter(proposal -> ballotList.stream()
-                                .noneMatch(ballot -> ballot.getProposal().equals(proposal)))
+                        .filter(proposal -> !hasBallotWithProposal(proposal))
                         .forEach(proposal -> {
                             Ballot ballot = new Ballot(proposal); // vote is null
                             log.info("We create a new ballot with a proposal and add it to our list. " +
                                     "Vote is null at that moment. proposalTxId={}", proposal.getTxId());
                             ballotList.add(ballot);
+                            ballotsByTxId.putIfAbsent(ballot.getTxId(), ballot);
                             listeners.forEach(l -> l.onListChanged(ballotList.getList()));
                         });
                 persist();
@@ -102,6 +108,8 @@ public class BallotListService implements PersistedDataHost, DaoSetupService {
             if (persisted != null) {
                 ballotList.clear();
                 ballotList.addAll(persisted.getList());
+                ballotsByTxId.clear();
+                ballotList.getList().forEach(ballot -> ballotsByTxId.putIfAbsent(ballot.getTxId(), ballot));
                 listeners.forEach(l -> l.onListChanged(ballotList.getList()));
             }
         }
@@ -125,11 +133,26 @@ public class BallotListService implements PersistedDataHost, DaoSetupService {
         return ballotList;
     }
 
+    public Optional<Ballot> findBallot(String proposalTxId) {
+        return Optional.ofNullable(ballotsByTxId.get(proposalTxId));
+    }
+
 
     ///////////////////////////////////////////////////////////////////////////////////////////
     // Private
     ///////////////////////////////////////////////////////////////////////////////////////////
 
+    private boolean hasBallotWithProposal(Proposal proposal) {
+        Ballot ballot = ballotsByTxId.get(proposal.getTxId());
+        if (ballot == null)
+            return false;
+        else if (ballot.getProposal().equals(proposal))
+            return true;
+        else
+            // Different proposal data with the same txId, we fall back to the full check
+            return ballotList.stream().anyMatch(e -> e.getProposal().equals(proposal));
+    }
+
     private void persist() {
         storage.queueUpForSave();
     }
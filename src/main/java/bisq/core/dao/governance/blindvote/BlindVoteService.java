@@ -49,6 +49,7 @@ public class BlindVoteService implements AppendOnlyDataStoreListener, BsqStateLi
     private final BsqStateService bsqStateService;
     private final P2PService p2PService;
     private final BlindVoteValidator blindVoteValidator;
+    private final BlindVoteStorageService blindVoteStorageService;
 
     private final ObservableList<BlindVotePayload> appendOnlyStoreList = FXCollections.observableArrayList();
 
@@ -67,6 +68,7 @@ public class BlindVoteService implements AppendOnlyDataStoreListener, BsqStateLi
         this.bsqStateService = bsqStateService;
         this.p2PService = p2PService;
         this.blindVoteValidator = blindVoteValidator;
+        this.blindVoteStorageService = blindVoteStorageService;
 
         if (daoActivated)
             appendOnlyDataStoreService.addService(blindVoteStorageService);
@@ -134,7 +136,7 @@ public class BlindVoteService implements AppendOnlyDataStoreListener, BsqStateLi
     ///////////////////////////////////////////////////////////////////////////////////////////
 
     private void fillListFromAppendOnlyDataStore() {
-        p2PService.getP2PDataStorage().getAppendOnlyDataStoreMap().values().forEach(this::onAppendOnlyDataAdded);
+        blindVoteStorageService.getBlindVotePayloadStream().forEach(this::onAppendOnlyDataAdded);
     }
 
     private void onAppendOnlyDataAdded(PersistableNetworkPayload persistableNetworkPayload) {
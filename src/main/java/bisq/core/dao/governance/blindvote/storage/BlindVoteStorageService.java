@@ -30,6 +30,7 @@ import javax.inject.Inject;
 import java.io.File;
 
 import java.util.Map;
+import java.util.stream.Stream;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -67,6 +68,10 @@ public class BlindVoteStorageService extends StoreService<BlindVoteStore, Persis
         return payload instanceof BlindVotePayload;
     }
 
+    public Stream<BlindVotePayload> getBlindVotePayloadStream() {
+        return getMap().values().stream().map(payload -> (BlindVotePayload) payload);
+    }
+
 
     ///////////////////////////////////////////////////////////////////////////////////////////
     // Protected
@@ -103,6 +103,16 @@ public class ProposalListPresentation implements BsqStateListener, MyProposalLis
     public void onParseBlockChainComplete() {
     }
 
+    @Override
+    public boolean requiresPerBlockEvents() {
+        return false;
+    }
+
+    @Override
+    public void onBlocksApplied(int fromHeight, int toHeight) {
+        updateLists();
+    }
+
 
     ///////////////////////////////////////////////////////////////////////////////////////////
     // MyProposalListService.Listener
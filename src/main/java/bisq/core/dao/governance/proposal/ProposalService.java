@@ -59,6 +59,8 @@ public class ProposalService implements HashMapChangedListener, AppendOnlyDataSt
     private final PeriodService periodService;
     private final BsqStateService bsqStateService;
     private final ProposalValidator proposalValidator;
+    private final ProposalStorageService proposalStorageService;
+    private final TempProposalStorageService tempProposalStorageService;
 
     // Proposals we receive in the proposal phase. They can be removed in that phase. That list must not be used for
     // consensus critical code.
@@ -70,6 +72,9 @@ public class ProposalService implements HashMapChangedListener, AppendOnlyDataSt
     // different data collections due the eventually consistency of the P2P network.
     @Getter
     private final ObservableList<ProposalPayload> proposalPayloads = FXCollections.observableArrayList();
+    private final TxIdIndex<Proposal> tempProposalsIndex = new TxIdIndex<>(tempProposals, Proposal::getTxId);
+    private final TxIdIndex<ProposalPayload> proposalPayloadsIndex = new TxIdIndex<>(proposalPayloads,
+            proposalPayload -> proposalPayload.getProposal().getTxId());
     private boolean parsingComplete;
 
 
@@ -91,6 +96,8 @@ public class ProposalService implements HashMapChangedListener, AppendOnlyDataSt
         this.periodService = periodService;
         this.bsqStateService = bsqStateService;
         this.proposalValidator = proposalValidator;
+        this.proposalStorageService = proposalStorageService;
+        this.tempProposalStorageService = tempProposalStorageService;
 
         if (daoActivated) {
             // We add our stores to the global stores
@@ -178,12 +185,13 @@ public class ProposalService implements HashMapChangedListener, AppendOnlyDataSt
     // Private
     ///////////////////////////////////////////////////////////////////////////////////////////
 
+    // We only iterate our own stores, not all the entries and payloads of the P2P network storage.
     private void fillListFromProtectedStore() {
-        p2PService.getDataMap().values().forEach(this::onProtectedDataAdded);
+        tempProposalStorageService.getMap().values().forEach(this::onProtectedDataAdded);
     }
 
     private void fillListFromAppendOnlyDataStore() {
-        p2PService.getP2PDataStorage().getAppendOnlyDataStoreMap().values().forEach(this::onAppendOnlyDataAdded);
+        proposalStorageService.getProposalPayloadStream().forEach(this::onAppendOnlyDataAdded);
     }
 
     private void publishToAppendOnlyDataStore() {
@@ -206,7 +214,7 @@ public class ProposalService implements HashMapChangedListener, AppendOnlyDataSt
             final Proposal proposal = ((TempProposalPayload) protectedStoragePayload).getProposal();
             // We do not validate if we are in current cycle and if tx is confirmed yet as the tx might be not
             // available/confirmed. But we check if we are in the proposal phase.
-            if (!tempProposals.contains(proposal)) {
+            if (!tempProposalsIndex.contains(proposal)) {
                 if (proposalValidator.isValidOrUnconfirmed(proposal)) {
                     tempProposals.add(proposal);
                     log.info("We received a TempProposalPayload and store it to our protectedStoreList. proposalTxId={}",
@@ -225,7 +233,7 @@ public class ProposalService implements HashMapChangedListener, AppendOnlyDataSt
             final Proposal proposal = ((TempProposalPayload) protectedStoragePayload).getProposal();
             // We allow removal only if we are in the proposal phase.
             if (periodService.isInPhase(bsqStateService.getChainHeight(), DaoPhase.Phase.PROPOSAL)) {
-                if (tempProposals.contains(proposal)) {
+                if (tempProposalsIndex.contains(proposal)) {
                     tempProposals.remove(proposal);
                     log.info("We received a remove request for a TempProposalPayload and have removed the proposal " +
                             "from our list. proposalTxId={}", proposal.getTxId());
@@ -240,7 +248,7 @@ public class ProposalService implements HashMapChangedListener, AppendOnlyDataSt
     private void onAppendOnlyDataAdded(PersistableNetworkPayload persistableNetworkPayload) {
         if (persistableNetworkPayload instanceof ProposalPayload) {
             ProposalPayload proposalPayload = (ProposalPayload) persistableNetworkPayload;
-            if (!proposalPayloads.contains(proposalPayload)) {
+            if (!proposalPayloadsIndex.contains(proposalPayload)) {
                 Proposal proposal = proposalPayload.getProposal();
                 if (proposalValidator.areDataFieldsValid(proposal)) {
                     proposalPayloads.add(proposalPayload);
@@ -0,0 +1,82 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.governance.proposal;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Index by txId over an observable list so that contains checks don't need to scan the list and compare all
+ * elements. We still compare with equals, so elements with the same txId but different data are treated as
+ * different elements as in the list.
+ */
+class TxIdIndex<T> {
+    private final Function<T, String> txIdFunction;
+    private final Map<String, List<T>> elementsByTxId = new HashMap<>();
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Constructor
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    TxIdIndex(ObservableList<T> list, Function<T, String> txIdFunction) {
+        this.txIdFunction = txIdFunction;
+        list.forEach(this::add);
+        list.addListener((ListChangeListener<T>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(this::remove);
+                change.getAddedSubList().forEach(this::add);
+            }
+        });
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // API
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    boolean contains(T element) {
+        return elementsByTxId.getOrDefault(txIdFunction.apply(element), Collections.emptyList()).contains(element);
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private void add(T element) {
+        elementsByTxId.computeIfAbsent(txIdFunction.apply(element), k -> new ArrayList<>(1)).add(element);
+    }
+
+    private void remove(T element) {
+        String txId = txIdFunction.apply(element);
+        List<T> elements = elementsByTxId.get(txId);
+        if (elements != null) {
+            elements.remove(element);
+            if (elements.isEmpty())
+                elementsByTxId.remove(txId);
+        }
+    }
+}
@@ -300,16 +300,14 @@ public class VoteResultService implements BsqStateListener, DaoSetupService {
                 .filter(voteWithProposalTxId -> voteWithProposalTxId.getVote() != null)
                 .collect(Collectors.toMap(VoteWithProposalTxId::getProposalTxId, VoteWithProposalTxId::getVote));
 
-        // We make a map with proposalTxId as key and the ballot as value out of our stored ballot list
-        Map<String, Ballot> ballotByTxIdMap = ballotListService.getBallotList().stream()
-                .collect(Collectors.toMap(Ballot::getTxId, ballot -> ballot));
-
+        // We look up the ballots of our stored ballot list by proposalTxId
         List<String> missing = new ArrayList<>();
         List<Ballot> ballots = voteByTxIdMap.entrySet().stream()
                 .map(e -> {
                     final String txId = e.getKey();
-                    if (ballotByTxIdMap.containsKey(txId)) {
-                        final Ballot ballot = ballotByTxIdMap.get(txId);
+                    Optional<Ballot> optionalBallot = ballotListService.findBallot(txId);
+                    if (optionalBallot.isPresent()) {
+                        final Ballot ballot = optionalBallot.get();
                         // We create a new Ballot with the proposal from the ballot list and the vote from our decrypted votes
                         Vote vote = e.getValue();
                         return new Ballot(ballot.getProposal(), vote);
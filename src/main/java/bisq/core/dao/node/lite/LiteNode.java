@@ -30,9 +30,12 @@ import bisq.core.dao.state.blockchain.RawBlock;
 import bisq.network.p2p.P2PService;
 import bisq.network.p2p.network.Connection;
 
+import bisq.common.UserThread;
+
 import com.google.inject.Inject;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import lombok.extern.slf4j.Slf4j;
@@ -45,8 +48,19 @@ import org.jetbrains.annotations.Nullable;
  */
 @Slf4j
 public class LiteNode extends BsqNode {
+    // Max. duration we parse requested blocks on the user thread before we let other queued tasks (e.g. trade
+    // protocol messages) run.
+    private static final long MAX_PARSE_DURATION_PER_CHUNK_MS = 100;
+
     private final LiteNodeNetworkService liteNodeNetworkService;
 
+    // Incremented when parsing of requested blocks starts or gets aborted, so a pending chunk of an outdated
+    // response does not continue.
+    private int requestedBlocksParseId;
+    private boolean parsingRequestedBlocks;
+    // New blocks broadcasted while we parse the requested blocks
+    private final List<RawBlock> pendingNewBlocks = new ArrayList<>();
+
 
     ///////////////////////////////////////////////////////////////////////////////////////////
     // Constructor
@@ -78,6 +92,7 @@ public class LiteNode extends BsqNode {
 
     @Override
     public void shutDown() {
+        requestedBlocksParseId++;
         liteNodeNetworkService.shutDown();
     }
 
@@ -137,14 +152,53 @@ public class LiteNode extends BsqNode {
         // 144 blocks a day would result in about 4000 in a month, so if a user downloads the app after 1 months latest
         // release it will be a bit of a performance hit. It is a one time event as the snapshots gets created and be
         // used at next startup.
+        // We apply the blocks as a batch so that listeners which only present the state get updated once at the end
+        // instead of at each block.
+        // We parse in chunks and let other tasks on the user thread run in between, so the trade protocols are not
+        // blocked while we catch up.
         long startTs = System.currentTimeMillis();
-        blockList.forEach(this::parseBlock);
-        log.info("Parsing of {} blocks took {} sec.", blockList.size(), (System.currentTimeMillis() - startTs) / 1000D);
-        onParseBlockChainComplete();
+        // If we still parse an earlier response (e.g. after a re-org) we continue its batch and drop its remaining
+        // blocks.
+        if (!parsingRequestedBlocks) {
+            parsingRequestedBlocks = true;
+            bsqStateService.beginBlockBatch();
+        }
+        int parseId = ++requestedBlocksParseId;
+        parseRequestedBlocks(blockList.iterator(), parseId, blockList.size(), startTs);
+    }
+
+    private void parseRequestedBlocks(Iterator<RawBlock> iterator, int parseId, int numBlocks, long startTs) {
+        if (parseId != requestedBlocksParseId)
+            return;
+
+        long chunkStartTs = System.currentTimeMillis();
+        while (iterator.hasNext() && System.currentTimeMillis() - chunkStartTs < MAX_PARSE_DURATION_PER_CHUNK_MS) {
+            parseBlock(iterator.next());
+        }
+
+        if (iterator.hasNext()) {
+            UserThread.execute(() -> parseRequestedBlocks(iterator, parseId, numBlocks, startTs));
+        } else {
+            bsqStateService.endBlockBatch();
+            parsingRequestedBlocks = false;
+            log.info("Parsing of {} blocks took {} sec.", numBlocks, (System.currentTimeMillis() - startTs) / 1000D);
+            onParseBlockChainComplete();
+
+            List<RawBlock> newBlocks = new ArrayList<>(pendingNewBlocks);
+            pendingNewBlocks.clear();
+            newBlocks.forEach(this::onNewBlockReceived);
+        }
     }
 
     // We received a new block
     private void onNewBlockReceived(RawBlock block) {
+        if (parsingRequestedBlocks) {
+            // The new block would not connect before we have parsed the requested blocks
+            log.info("onNewBlockReceived: block at height {}. We parse it after the requested blocks.", block.getHeight());
+            pendingNewBlocks.add(block);
+            return;
+        }
+
         log.info("onNewBlockReceived: block at height {}", block.getHeight());
         parseBlock(block);
     }
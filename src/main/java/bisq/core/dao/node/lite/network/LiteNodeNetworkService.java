@@ -19,6 +19,7 @@ package bisq.core.dao.node.lite.network;
 
 import bisq.core.dao.node.messages.GetBlocksResponse;
 import bisq.core.dao.node.messages.NewBlockBroadcastMessage;
+import bisq.core.dao.state.blockchain.RawBlock;
 
 import bisq.network.p2p.NodeAddress;
 import bisq.network.p2p.network.CloseConnectionReason;
@@ -38,8 +39,11 @@ import bisq.common.util.Tuple2;
 
 import javax.inject.Inject;
 
+import com.google.common.annotations.VisibleForTesting;
+
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -61,6 +65,11 @@ public class LiteNodeNetworkService implements MessageListener, ConnectionListen
     private static final long RETRY_DELAY_SEC = 10;
     private static final long CLEANUP_TIMER = 120;
     private static final int MAX_RETRY = 3;
+    // If the seed node has not responded after that delay we request the same blocks also from another seed node and
+    // use the response which arrives first. A slow seed node would otherwise stall the sync until the timeout.
+    private static final long HEDGE_DELAY_SEC = 20;
+    // Response time we assume for a seed node which failed to deliver the blocks
+    private static final long FAULT_RESPONSE_TIME_MS = 120_000;
 
     private int retryCounter = 0;
     private int lastRequestedBlockHeight;
@@ -95,8 +104,15 @@ public class LiteNodeNetworkService implements MessageListener, ConnectionListen
     // Key is tuple of seedNode address and requested blockHeight
     private final Map<Tuple2<NodeAddress, Integer>, RequestBlocksHandler> requestBlocksHandlerMap = new HashMap<>();
     private Timer retryTimer;
+    private Timer hedgeTimer;
     private boolean stopped;
 
+    // Smoothed response time of the seed nodes for GetBlocksRequests. We prefer the fastest seed node.
+    private final Map<NodeAddress, Long> responseTimeByNodeAddress = new HashMap<>();
+    // Block hashes of the first response for a requested start height. Used to check the response of a hedged
+    // request to another seed node for consistency.
+    private final Map<Integer, Map<Integer, String>> blockHashesByStartBlockHeight = new HashMap<>();
+
 
     ///////////////////////////////////////////////////////////////////////////////////////////
     // Constructor
@@ -128,6 +144,7 @@ public class LiteNodeNetworkService implements MessageListener, ConnectionListen
         Log.traceCall();
         stopped = true;
         stopRetryTimer();
+        stopHedgeTimer();
         networkNode.removeMessageListener(this);
         networkNode.removeConnectionListener(this);
         peerManager.removeListener(this);
@@ -141,12 +158,12 @@ public class LiteNodeNetworkService implements MessageListener, ConnectionListen
     public void requestBlocks(int startBlockHeight) {
         Log.traceCall();
         lastRequestedBlockHeight = startBlockHeight;
-        Optional<Connection> connectionToSeedNodeOptional = networkNode.getConfirmedConnections().stream()
-                .filter(peerManager::isSeedNode)
-                .findAny();
-        if (connectionToSeedNodeOptional.isPresent() &&
-                connectionToSeedNodeOptional.get().getPeersNodeAddressOptional().isPresent()) {
-            requestBlocks(connectionToSeedNodeOptional.get().getPeersNodeAddressOptional().get(), startBlockHeight);
+        // In case of a re-org we request the same start height again
+        blockHashesByStartBlockHeight.remove(startBlockHeight);
+        Optional<NodeAddress> seedNodeAddressOptional = getConnectedSeedNodeAddresses().stream().findFirst();
+        if (seedNodeAddressOptional.isPresent()) {
+            requestBlocks(seedNodeAddressOptional.get(), startBlockHeight);
+            startHedgeTimer(startBlockHeight);
         } else {
             tryWithNewSeedNode(startBlockHeight);
         }
@@ -232,9 +249,8 @@ public class LiteNodeNetworkService implements MessageListener, ConnectionListen
             final Tuple2<NodeAddress, Integer> key = new Tuple2<>(peersNodeAddress, startBlockHeight);
             if (!requestBlocksHandlerMap.containsKey(key)) {
                 if (startBlockHeight >= lastReceivedBlockHeight) {
-                    RequestBlocksHandler requestBlocksHandler = new RequestBlocksHandler(networkNode,
-                            peerManager,
-                            peersNodeAddress,
+                    long requestTs = System.currentTimeMillis();
+                    RequestBlocksHandler requestBlocksHandler = createRequestBlocksHandler(peersNodeAddress,
                             startBlockHeight,
                             new RequestBlocksHandler.Listener() {
                                 @Override
@@ -245,6 +261,24 @@ public class LiteNodeNetworkService implements MessageListener, ConnectionListen
 
                                     // need to remove before listeners are notified as they cause the update call
                                     requestBlocksHandlerMap.remove(key);
+                                    updateResponseTime(peersNodeAddress, System.currentTimeMillis() - requestTs);
+
+                                    Map<Integer, String> blockHashes = getBlockHashes(getBlocksResponse);
+                                    Map<Integer, String> firstBlockHashes = blockHashesByStartBlockHeight.get(startBlockHeight);
+                                    if (firstBlockHashes != null) {
+                                        // We have received that request already from another seed node
+                                        getFirstInconsistentBlockHeight(firstBlockHashes, blockHashes)
+                                                .ifPresent(height -> log.warn("Seed node {} delivered a different " +
+                                                                "block hash at height {} than the seed node which " +
+                                                                "responded first. blockHash={}, firstBlockHash={}",
+                                                        peersNodeAddress, height, blockHashes.get(height),
+                                                        firstBlockHashes.get(height)));
+                                        return;
+                                    }
+                                    blockHashesByStartBlockHeight.keySet().removeIf(height -> height < startBlockHeight);
+                                    blockHashesByStartBlockHeight.put(startBlockHeight, blockHashes);
+                                    stopHedgeTimer();
+
                                     // we only notify if our request was latest
                                     if (startBlockHeight >= lastReceivedBlockHeight) {
                                         lastReceivedBlockHeight = startBlockHeight;
@@ -258,15 +292,33 @@ public class LiteNodeNetworkService implements MessageListener, ConnectionListen
 
                                 @Override
                                 public void onFault(String errorMessage, @Nullable Connection connection) {
+                                    requestBlocksHandlerMap.remove(key);
+                                    updateResponseTime(peersNodeAddress, FAULT_RESPONSE_TIME_MS);
+
+                                    // If a hedged request to another seed node has delivered the blocks already the
+                                    // fault has no effect on our sync.
+                                    if (startBlockHeight < lastReceivedBlockHeight ||
+                                            blockHashesByStartBlockHeight.containsKey(startBlockHeight)) {
+                                        log.info("requestBlocksHandler of a hedged request failed after we got the " +
+                                                "blocks from another seed node. nodeAddress={}, ErrorMessage={}",
+                                                peersNodeAddress, errorMessage);
+                                        return;
+                                    }
+
                                     log.warn("requestBlocksHandler with outbound connection failed.\n\tnodeAddress={}\n\t" +
                                             "ErrorMessage={}", peersNodeAddress, errorMessage);
 
                                     peerManager.handleConnectionFault(peersNodeAddress);
-                                    requestBlocksHandlerMap.remove(key);
-
                                     listeners.forEach(listener -> listener.onFault(errorMessage, connection));
 
-                                    tryWithNewSeedNode(startBlockHeight);
+                                    // If a hedged request to another seed node is still pending we don't need to retry.
+                                    // Otherwise the retry replaces the hedged request.
+                                    boolean isRequestPending = requestBlocksHandlerMap.keySet().stream()
+                                            .anyMatch(e -> e.second == startBlockHeight);
+                                    if (!isRequestPending) {
+                                        stopHedgeTimer();
+                                        tryWithNewSeedNode(startBlockHeight);
+                                    }
                                 }
                             });
                     requestBlocksHandlerMap.put(key, requestBlocksHandler);
@@ -302,6 +354,13 @@ public class LiteNodeNetworkService implements MessageListener, ConnectionListen
     // Utils
     ///////////////////////////////////////////////////////////////////////////////////////////
 
+    @VisibleForTesting
+    RequestBlocksHandler createRequestBlocksHandler(NodeAddress peersNodeAddress,
+                                                    int startBlockHeight,
+                                                    RequestBlocksHandler.Listener listener) {
+        return new RequestBlocksHandler(networkNode, peerManager, peersNodeAddress, startBlockHeight, listener);
+    }
+
     private void tryWithNewSeedNode(int startBlockHeight) {
         Log.traceCall();
         if (retryTimer == null) {
@@ -338,6 +397,64 @@ public class LiteNodeNetworkService implements MessageListener, ConnectionListen
         }
     }
 
+    private List<NodeAddress> getConnectedSeedNodeAddresses() {
+        return networkNode.getConfirmedConnections().stream()
+                .filter(peerManager::isSeedNode)
+                .map(Connection::getPeersNodeAddressOptional)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .distinct()
+                // Seed nodes we have not requested yet have response time 0 so they get tried as well
+                .sorted(Comparator.comparingLong(nodeAddress -> responseTimeByNodeAddress.getOrDefault(nodeAddress, 0L)))
+                .collect(Collectors.toList());
+    }
+
+    private void startHedgeTimer(int startBlockHeight) {
+        stopHedgeTimer();
+        hedgeTimer = UserThread.runAfter(() -> {
+            hedgeTimer = null;
+            if (stopped || blockHashesByStartBlockHeight.containsKey(startBlockHeight))
+                return;
+
+            getConnectedSeedNodeAddresses().stream()
+                    .filter(nodeAddress -> !requestBlocksHandlerMap.containsKey(new Tuple2<>(nodeAddress, startBlockHeight)))
+                    .findFirst()
+                    .ifPresent(nodeAddress -> {
+                        log.info("We did not receive the blocks from height {} after {} sec. We request them also " +
+                                "from {}", startBlockHeight, HEDGE_DELAY_SEC, nodeAddress);
+                        requestBlocks(nodeAddress, startBlockHeight);
+                    });
+        }, HEDGE_DELAY_SEC);
+    }
+
+    private void stopHedgeTimer() {
+        if (hedgeTimer != null) {
+            hedgeTimer.stop();
+            hedgeTimer = null;
+        }
+    }
+
+    private void updateResponseTime(NodeAddress nodeAddress, long responseTime) {
+        Long previous = responseTimeByNodeAddress.get(nodeAddress);
+        responseTimeByNodeAddress.put(nodeAddress, previous == null ? responseTime : (previous * 3 + responseTime) / 4);
+    }
+
+    private Map<Integer, String> getBlockHashes(GetBlocksResponse getBlocksResponse) {
+        return getBlocksResponse.getBlocks().stream()
+                .collect(Collectors.toMap(RawBlock::getHeight, RawBlock::getHash, (a, b) -> a));
+    }
+
+    // Seed nodes might have a different chain tip, so we only compare the heights both have delivered
+    @VisibleForTesting
+    static Optional<Integer> getFirstInconsistentBlockHeight(Map<Integer, String> firstBlockHashes,
+                                                             Map<Integer, String> blockHashes) {
+        return blockHashes.entrySet().stream()
+                .filter(e -> firstBlockHashes.containsKey(e.getKey()))
+                .filter(e -> !firstBlockHashes.get(e.getKey()).equals(e.getValue()))
+                .map(Map.Entry::getKey)
+                .min(Comparator.naturalOrder());
+    }
+
     private void stopRetryTimer() {
         if (retryTimer != null) {
             retryTimer.stop();
@@ -369,6 +486,7 @@ public class LiteNodeNetworkService implements MessageListener, ConnectionListen
 
 
     private void closeAllHandlers() {
+        stopHedgeTimer();
         requestBlocksHandlerMap.values().forEach(RequestBlocksHandler::cancel);
         requestBlocksHandlerMap.clear();
     }
@@ -21,7 +21,10 @@ import bisq.core.dao.node.parser.exceptions.BlockNotConnectingException;
 import bisq.core.dao.state.BsqStateService;
 import bisq.core.dao.state.blockchain.Block;
 import bisq.core.dao.state.blockchain.RawBlock;
+import bisq.core.dao.state.blockchain.RawTx;
 import bisq.core.dao.state.blockchain.Tx;
+import bisq.core.dao.state.blockchain.TxOutput;
+import bisq.core.dao.state.blockchain.TxOutputKey;
 
 import bisq.common.app.DevEnv;
 
@@ -29,8 +32,13 @@ import org.bitcoinj.core.Coin;
 
 import javax.inject.Inject;
 
+import com.google.common.annotations.VisibleForTesting;
+
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -43,11 +51,15 @@ import javax.annotation.concurrent.Immutable;
 @Slf4j
 @Immutable
 public class BlockParser {
+    // Below that number of txs the overhead of the parallel check is not worth it
+    static final int MIN_TXS_FOR_PARALLEL_CHECK = 100;
+
     private final TxParser txParser;
     private final BsqStateService bsqStateService;
     private final String genesisTxId;
     private final int genesisBlockHeight;
     private final Coin genesisTotalSupply;
+    private final int minTxsForParallelCheck;
 
 
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -58,8 +70,16 @@ public class BlockParser {
     @Inject
     public BlockParser(TxParser txParser,
                        BsqStateService bsqStateService) {
+        this(txParser, bsqStateService, MIN_TXS_FOR_PARALLEL_CHECK);
+    }
+
+    @VisibleForTesting
+    BlockParser(TxParser txParser,
+                BsqStateService bsqStateService,
+                int minTxsForParallelCheck) {
         this.txParser = txParser;
         this.bsqStateService = bsqStateService;
+        this.minTxsForParallelCheck = minTxsForParallelCheck;
 
         genesisTxId = bsqStateService.getGenesisTxId();
         genesisBlockHeight = bsqStateService.getGenesisBlockHeight();
@@ -108,7 +128,7 @@ public class BlockParser {
         long startTs = System.currentTimeMillis();
         List<Tx> txList = block.getTxs();
 
-        rawBlock.getRawTxs().forEach(rawTx ->
+        getBsqTxCandidates(rawBlock.getRawTxs()).forEach(rawTx ->
             txParser.findTx(rawTx,
                     genesisTxId,
                     genesisBlockHeight,
@@ -120,6 +140,27 @@ public class BlockParser {
         return block;
     }
 
+    // A tx which does not spend a BSQ output cannot be a BSQ tx (except the genesis tx) and the TxParser does not
+    // change any state for it. Most txs of a block are such txs, so we filter them out in parallel, reading only
+    // the UTXO map of the state before that block. A tx which spends an output of another tx of the same block
+    // depends on the result of that tx so we keep it as candidate. The candidates are parsed in the order of the
+    // block, so the result is the same as if we parse all txs.
+    private List<RawTx> getBsqTxCandidates(List<RawTx> rawTxs) {
+        if (rawTxs.size() < minTxsForParallelCheck)
+            return rawTxs;
+
+        Set<String> txIdsOfBlock = rawTxs.stream().map(RawTx::getId).collect(Collectors.toSet());
+        Map<TxOutputKey, TxOutput> unspentTxOutputMap = bsqStateService.getUnspentTxOutputMap();
+        List<RawTx> candidates = rawTxs.parallelStream()
+                .filter(rawTx -> rawTx.getId().equals(genesisTxId) ||
+                        rawTx.getTxInputs().stream().anyMatch(txInput ->
+                                txIdsOfBlock.contains(txInput.getConnectedTxOutputTxId()) ||
+                                        unspentTxOutputMap.containsKey(txInput.getConnectedTxOutputKey())))
+                .collect(Collectors.toList());
+        log.debug("{} of {} txs are BSQ tx candidates", candidates.size(), rawTxs.size());
+        return candidates;
+    }
+
     private void validateIfBlockIsConnecting(RawBlock rawBlock) throws BlockNotConnectingException {
         LinkedList<Block> blocks = bsqStateService.getBlocks();
         if (!isBlockConnecting(rawBlock, blocks)) {
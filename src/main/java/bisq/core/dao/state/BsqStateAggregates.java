@@ -0,0 +1,104 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.state;
+
+import bisq.core.dao.state.blockchain.Block;
+import bisq.core.dao.state.blockchain.Tx;
+import bisq.core.dao.state.blockchain.TxOutput;
+import bisq.core.dao.state.blockchain.TxOutputType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * Running totals and small indexes over the txs of the parsed blocks, so that the aggregated values used by the UI
+ * don't require a scan over all txs and tx outputs of the chain. Updated with each parsed block and recomputed from
+ * the blocks after a snapshot got applied. Values which depend on the chain height or the spent state are derived
+ * from the small output lists kept here.
+ */
+class BsqStateAggregates {
+    @Getter
+    private long totalBurntFee;
+    @Getter
+    private final List<Tx> burntFeeTxs = new ArrayList<>();
+    @Getter
+    private long totalAmountOfLockupTxOutputs;
+    @Getter
+    private final List<TxOutput> lockupTxOutputs = new ArrayList<>();
+    @Getter
+    private final List<TxOutput> unlockTxOutputs = new ArrayList<>();
+    @Getter
+    private final List<TxOutput> issuanceCandidateTxOutputs = new ArrayList<>();
+    @Getter
+    private long totalIssuedAmount;
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // API
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    void applyBlock(Block block) {
+        block.getTxs().forEach(this::applyTx);
+    }
+
+    void applyIssuance(String txId) {
+        issuanceCandidateTxOutputs.stream()
+                .filter(txOutput -> txOutput.getTxId().equals(txId))
+                .forEach(txOutput -> totalIssuedAmount += txOutput.getValue());
+    }
+
+    void recompute(List<Block> blocks, Collection<String> issuanceTxIds) {
+        totalBurntFee = 0;
+        burntFeeTxs.clear();
+        totalAmountOfLockupTxOutputs = 0;
+        lockupTxOutputs.clear();
+        unlockTxOutputs.clear();
+        issuanceCandidateTxOutputs.clear();
+        totalIssuedAmount = 0;
+
+        blocks.forEach(this::applyBlock);
+        issuanceTxIds.forEach(this::applyIssuance);
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private void applyTx(Tx tx) {
+        if (tx.getBurntFee() > 0) {
+            totalBurntFee += tx.getBurntFee();
+            burntFeeTxs.add(tx);
+        }
+
+        tx.getTxOutputs().forEach(txOutput -> {
+            TxOutputType txOutputType = txOutput.getTxOutputType();
+            if (txOutputType == TxOutputType.LOCKUP) {
+                totalAmountOfLockupTxOutputs += txOutput.getValue();
+                lockupTxOutputs.add(txOutput);
+            } else if (txOutputType == TxOutputType.UNLOCK) {
+                unlockTxOutputs.add(txOutput);
+            } else if (txOutputType == TxOutputType.ISSUANCE_CANDIDATE_OUTPUT) {
+                issuanceCandidateTxOutputs.add(txOutput);
+            }
+        });
+    }
+}
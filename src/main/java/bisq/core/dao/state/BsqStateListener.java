@@ -29,4 +29,15 @@ public interface BsqStateListener {
     // Never used but we still want to provide the event
     default void onEmptyBlockAdded(Block block) {
     }
+
+    // Listeners which only present the state (UI lists, wallet) can return false so they don't get the per block
+    // events while a batch of blocks gets applied (catch-up at startup). They get onBlocksApplied at the end of the
+    // batch instead. Listeners with consensus relevant per block handling must keep the default.
+    default boolean requiresPerBlockEvents() {
+        return true;
+    }
+
+    // Called after a batch of blocks from fromHeight to toHeight (inclusive) has been applied.
+    default void onBlocksApplied(int fromHeight, int toHeight) {
+    }
 }
@@ -34,6 +34,9 @@ import bisq.core.dao.state.governance.Param;
 import bisq.core.dao.state.governance.ParamChange;
 import bisq.core.dao.state.period.Cycle;
 
+import bisq.common.app.DevEnv;
+import bisq.common.util.Utilities;
+
 import org.bitcoinj.core.Coin;
 
 import javax.inject.Inject;
@@ -47,6 +50,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -60,6 +64,11 @@ public class BsqStateService implements DaoSetupService {
     private final BsqState bsqState;
     private final GenesisTxInfo genesisTxInfo;
     private final List<BsqStateListener> bsqStateListeners = new CopyOnWriteArrayList<>();
+    private final BsqStateAggregates aggregates = new BsqStateAggregates();
+    private final StateHashChain stateHashChain = new StateHashChain();
+    private boolean applyingBlockBatch;
+    private int batchFromHeight = -1;
+    private int batchToHeight = -1;
 
 
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -114,6 +123,12 @@ public class BsqStateService implements DaoSetupService {
 
         bsqState.getParamChangeList().clear();
         bsqState.getParamChangeList().addAll(snapshot.getParamChangeList());
+
+        // The aggregates are not part of the persisted state, we recompute them from the blocks of the snapshot
+        aggregates.recompute(bsqState.getBlocks(), bsqState.getIssuanceMap().keySet());
+
+        stateHashChain.clear();
+        bsqState.getBlocks().forEach(this::applyToStateHashChain);
     }
 
     public BsqState getClone() {
@@ -167,23 +182,60 @@ public class BsqStateService implements DaoSetupService {
     // Parser events
     ///////////////////////////////////////////////////////////////////////////////////////////
 
+    // Blocks applied between beginBlockBatch and endBlockBatch only notify the listeners which require per block
+    // events. The others get one onBlocksApplied event at the end.
+    public void beginBlockBatch() {
+        applyingBlockBatch = true;
+        batchFromHeight = -1;
+        batchToHeight = -1;
+    }
+
+    public void endBlockBatch() {
+        applyingBlockBatch = false;
+        if (batchFromHeight != -1) {
+            int fromHeight = batchFromHeight;
+            int toHeight = batchToHeight;
+            batchFromHeight = -1;
+            batchToHeight = -1;
+            log.info("Blocks from height {} to {} applied", fromHeight, toHeight);
+            bsqStateListeners.forEach(l -> l.onBlocksApplied(fromHeight, toHeight));
+        }
+    }
+
     // First we get the blockHeight set
     public void onNewBlockHeight(int blockHeight) {
         bsqState.setChainHeight(blockHeight);
-        bsqStateListeners.forEach(listener -> listener.onNewBlockHeight(blockHeight));
+        if (applyingBlockBatch) {
+            if (batchFromHeight == -1)
+                batchFromHeight = blockHeight;
+            batchToHeight = blockHeight;
+        }
+        getBlockEventListeners().forEach(listener -> listener.onNewBlockHeight(blockHeight));
     }
 
     // Second we get the block added with empty txs
     public void onNewBlockWithEmptyTxs(Block block) {
         bsqState.getBlocks().add(block);
-        bsqStateListeners.forEach(l -> l.onEmptyBlockAdded(block));
+        getBlockEventListeners().forEach(l -> l.onEmptyBlockAdded(block));
 
-        log.info("New Block added at blockHeight " + block.getHeight());
+        if (applyingBlockBatch)
+            log.debug("New Block added at blockHeight " + block.getHeight());
+        else
+            log.info("New Block added at blockHeight " + block.getHeight());
     }
 
     // Third we get the onParseBlockComplete called after all rawTxs of blocks have been parsed
     public void onParseBlockComplete(Block block) {
-        bsqStateListeners.forEach(l -> l.onParseTxsComplete(block));
+        // If the block was already added we got called with a block which is not part of our state
+        if (!getBlocks().isEmpty() && getBlocks().getLast() == block) {
+            aggregates.applyBlock(block);
+            if (DevEnv.isDevMode())
+                verifyAggregates();
+
+            applyToStateHashChain(block);
+        }
+
+        getBlockEventListeners().forEach(l -> l.onParseTxsComplete(block));
     }
 
     // Called after parsing of all pending blocks is completed
@@ -301,15 +353,11 @@ public class BsqStateService implements DaoSetupService {
     }
 
     public long getTotalBurntFee() {
-        return getTxStream()
-                .mapToLong(Tx::getBurntFee)
-                .sum();
+        return aggregates.getTotalBurntFee();
     }
 
     public Set<Tx> getBurntFeeTxs() {
-        return getTxStream()
-                .filter(tx -> tx.getBurntFee() > 0)
-                .collect(Collectors.toSet());
+        return new HashSet<>(aggregates.getBurntFeeTxs());
     }
 
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -466,7 +514,7 @@ public class BsqStateService implements DaoSetupService {
     ///////////////////////////////////////////////////////////////////////////////////////////
 
     public Set<TxOutput> getIssuanceCandidateTxOutputs() {
-        return getTxOutputsByTxOutputType(TxOutputType.ISSUANCE_CANDIDATE_OUTPUT);
+        return new HashSet<>(aggregates.getIssuanceCandidateTxOutputs());
     }
 
 
@@ -475,7 +523,9 @@ public class BsqStateService implements DaoSetupService {
     ///////////////////////////////////////////////////////////////////////////////////////////
 
     public void addIssuance(Issuance issuance) {
-        bsqState.getIssuanceMap().put(issuance.getTxId(), issuance);
+        Issuance previous = bsqState.getIssuanceMap().put(issuance.getTxId(), issuance);
+        if (previous == null)
+            aggregates.applyIssuance(issuance.getTxId());
     }
 
     public Set<Issuance> getIssuanceSet() {
@@ -500,10 +550,7 @@ public class BsqStateService implements DaoSetupService {
     }
 
     public long getTotalIssuedAmount() {
-        return getIssuanceCandidateTxOutputs().stream()
-                .filter(txOutput -> isIssuanceTx(txOutput.getTxId()))
-                .mapToLong(TxOutput::getValue)
-                .sum();
+        return aggregates.getTotalIssuedAmount();
     }
 
 
@@ -591,11 +638,11 @@ public class BsqStateService implements DaoSetupService {
     }
 
     public Set<TxOutput> getLockupTxOutputs() {
-        return getTxOutputsByTxOutputType(TxOutputType.LOCKUP);
+        return new HashSet<>(aggregates.getLockupTxOutputs());
     }
 
     public Set<TxOutput> getUnlockTxOutputs() {
-        return getTxOutputsByTxOutputType(TxOutputType.UNLOCK);
+        return new HashSet<>(aggregates.getUnlockTxOutputs());
     }
 
     public Optional<TxOutput> getLockupTxOutput(String txId) {
@@ -606,9 +653,7 @@ public class BsqStateService implements DaoSetupService {
 
     // Returns amount of all LOCKUP txOutputs (they might have been unlocking or unlocked in the meantime)
     public long getTotalAmountOfLockupTxOutputs() {
-        return getLockupTxOutputs().stream()
-                .mapToLong(TxOutput::getValue)
-                .sum();
+        return aggregates.getTotalAmountOfLockupTxOutputs();
     }
 
     // Returns the current locked up amount (excluding unlocking and unlocked)
@@ -625,7 +670,7 @@ public class BsqStateService implements DaoSetupService {
     // Unlocking
     // Return UNLOCK TxOutputs that are not yet spendable as lockTime is not over
     public Stream<TxOutput> getUnspentUnlockingTxOutputsStream() {
-        return getTxOutputsByTxOutputType(TxOutputType.UNLOCK).stream()
+        return aggregates.getUnlockTxOutputs().stream()
                 .filter(txOutput -> isUnspent(txOutput.getKey()))
                 .filter(txOutput -> !isLockTimeOverForUnlockTxOutput(txOutput));
     }
@@ -661,7 +706,7 @@ public class BsqStateService implements DaoSetupService {
 
     // We don't care here about the unspent state
     public Stream<TxOutput> getUnlockedTxOutputsStream() {
-        return getTxOutputsByTxOutputType(TxOutputType.UNLOCK).stream()
+        return aggregates.getUnlockTxOutputs().stream()
                 .filter(this::isLockTimeOverForUnlockTxOutput);
     }
 
@@ -762,6 +807,21 @@ public class BsqStateService implements DaoSetupService {
     }
 
 
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // State hash
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public Optional<byte[]> getStateHash(int height) {
+        return stateHashChain.getHash(height);
+    }
+
+    // The peer's hashes can be sparse (e.g. only at snapshot heights). Blocks below the returned height are the same
+    // as the peer's, so a resync can start from the last matching height instead of genesis.
+    public Optional<Integer> findFirstMismatchingStateHashHeight(SortedMap<Integer, byte[]> peersStateHashesByHeight) {
+        return stateHashChain.findFirstMismatchingHeight(peersStateHashesByHeight);
+    }
+
+
     ///////////////////////////////////////////////////////////////////////////////////////////
     // Listeners
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -773,5 +833,62 @@ public class BsqStateService implements DaoSetupService {
     public void removeBsqStateListener(BsqStateListener listener) {
         bsqStateListeners.remove(listener);
     }
+
+    // Compares the running aggregates with a full recompute from all txs. Only used in dev mode as it is expensive.
+    private void verifyAggregates() {
+        long totalBurntFee = getTxStream().mapToLong(Tx::getBurntFee).sum();
+        if (totalBurntFee != aggregates.getTotalBurntFee())
+            DevEnv.logErrorAndThrowIfDevMode("Running totalBurntFee " + aggregates.getTotalBurntFee() +
+                    " does not match recomputed value " + totalBurntFee);
+
+        long totalAmountOfLockupTxOutputs = getTxOutputsByTxOutputType(TxOutputType.LOCKUP).stream()
+                .mapToLong(TxOutput::getValue)
+                .sum();
+        if (totalAmountOfLockupTxOutputs != aggregates.getTotalAmountOfLockupTxOutputs())
+            DevEnv.logErrorAndThrowIfDevMode("Running totalAmountOfLockupTxOutputs " +
+                    aggregates.getTotalAmountOfLockupTxOutputs() + " does not match recomputed value " +
+                    totalAmountOfLockupTxOutputs);
+
+        long totalIssuedAmount = getTxOutputsByTxOutputType(TxOutputType.ISSUANCE_CANDIDATE_OUTPUT).stream()
+                .filter(txOutput -> isIssuanceTx(txOutput.getTxId()))
+                .mapToLong(TxOutput::getValue)
+                .sum();
+        if (totalIssuedAmount != aggregates.getTotalIssuedAmount())
+            DevEnv.logErrorAndThrowIfDevMode("Running totalIssuedAmount " + aggregates.getTotalIssuedAmount() +
+                    " does not match recomputed value " + totalIssuedAmount);
+
+        verifySameElements("burntFeeTxs",
+                getTxStream().filter(tx -> tx.getBurntFee() > 0).collect(Collectors.toSet()),
+                aggregates.getBurntFeeTxs());
+        verifySameElements("lockupTxOutputs",
+                getTxOutputsByTxOutputType(TxOutputType.LOCKUP),
+                aggregates.getLockupTxOutputs());
+        verifySameElements("unlockTxOutputs",
+                getTxOutputsByTxOutputType(TxOutputType.UNLOCK),
+                aggregates.getUnlockTxOutputs());
+        verifySameElements("issuanceCandidateTxOutputs",
+                getTxOutputsByTxOutputType(TxOutputType.ISSUANCE_CANDIDATE_OUTPUT),
+                aggregates.getIssuanceCandidateTxOutputs());
+    }
+
+    // The size check catches an element which got added twice to the running list
+    private static <T> void verifySameElements(String name, Set<T> recomputed, List<T> running) {
+        if (running.size() != recomputed.size() || !recomputed.equals(new HashSet<>(running)))
+            DevEnv.logErrorAndThrowIfDevMode("Running " + name + " " + running + " does not match recomputed value " +
+                    recomputed);
+    }
+
+    private void applyToStateHashChain(Block block) {
+        stateHashChain.applyBlock(block, bsqState.getIssuanceMap().values(), bsqState.getParamChangeList());
+        getStateHash(block.getHeight()).ifPresent(hash ->
+                log.debug("State hash at height {}: {}", block.getHeight(), Utilities.bytesAsHexString(hash)));
+    }
+
+    private Stream<BsqStateListener> getBlockEventListeners() {
+        if (applyingBlockBatch)
+            return bsqStateListeners.stream().filter(BsqStateListener::requiresPerBlockEvents);
+        else
+            return bsqStateListeners.stream();
+    }
 }
 
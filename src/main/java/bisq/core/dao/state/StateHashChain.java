@@ -0,0 +1,142 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.state;
+
+import bisq.core.dao.state.blockchain.Block;
+import bisq.core.dao.state.blockchain.Tx;
+import bisq.core.dao.state.governance.Issuance;
+import bisq.core.dao.state.governance.ParamChange;
+
+import bisq.common.crypto.Hash;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.SortedMap;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Chain of hashes over the consensus relevant state changes of each block. The hash at a height covers the hash of
+ * the previous height, the block hash, the BSQ txs of the block with their inputs and typed outputs (from which the
+ * UTXO set is derived), the issuances at that height and the param changes activated at that height.
+ * Only data of the persisted BsqState is used, so the chain can be recomputed from a snapshot and two nodes with the
+ * same state have the same hashes independent if they have started from a snapshot or from genesis.
+ * Fields which are only set if dumpBlockchainData is enabled are not included.
+ */
+@Slf4j
+class StateHashChain {
+    private final List<byte[]> hashes = new ArrayList<>();
+    private int firstHeight = -1;
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // API
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    void applyBlock(Block block, Collection<Issuance> issuances, Collection<ParamChange> paramChanges) {
+        int height = block.getHeight();
+        if (firstHeight == -1)
+            firstHeight = height;
+
+        if (height != firstHeight + hashes.size()) {
+            log.warn("Block at height {} does not follow our last state hash height {}. We ignore it.",
+                    height, firstHeight + hashes.size() - 1);
+            return;
+        }
+
+        byte[] previousHash = hashes.isEmpty() ? new byte[0] : hashes.get(hashes.size() - 1);
+        byte[] blockData = getBlockData(block, issuances, paramChanges).getBytes(StandardCharsets.UTF_8);
+        byte[] data = new byte[previousHash.length + blockData.length];
+        System.arraycopy(previousHash, 0, data, 0, previousHash.length);
+        System.arraycopy(blockData, 0, data, previousHash.length, blockData.length);
+        hashes.add(Hash.getSha256Hash(data));
+    }
+
+    void clear() {
+        hashes.clear();
+        firstHeight = -1;
+    }
+
+    Optional<byte[]> getHash(int height) {
+        int index = height - firstHeight;
+        if (firstHeight == -1 || index < 0 || index >= hashes.size())
+            return Optional.empty();
+        else
+            return Optional.of(hashes.get(index));
+    }
+
+    // As each hash covers all previous hashes, all heights below a matching height match as well. So we can use a
+    // binary search to find the first height where the hashes of a peer don't match ours. Returns empty if all
+    // heights match or if we don't have hashes for the heights of the peer.
+    Optional<Integer> findFirstMismatchingHeight(SortedMap<Integer, byte[]> peersHashesByHeight) {
+        List<Integer> heights = new ArrayList<>(peersHashesByHeight.keySet());
+        heights.removeIf(height -> !getHash(height).isPresent());
+        int low = 0;
+        int high = heights.size() - 1;
+        Integer firstMismatchingHeight = null;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int height = heights.get(mid);
+            if (Arrays.equals(getHash(height).get(), peersHashesByHeight.get(height))) {
+                low = mid + 1;
+            } else {
+                firstMismatchingHeight = height;
+                high = mid - 1;
+            }
+        }
+        return Optional.ofNullable(firstMismatchingHeight);
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private static String getBlockData(Block block, Collection<Issuance> issuances, Collection<ParamChange> paramChanges) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(block.getHeight()).append(':').append(block.getHash());
+        block.getTxs().forEach(tx -> appendTx(sb, tx));
+        issuances.stream()
+                .filter(issuance -> issuance.getChainHeight() == block.getHeight())
+                .sorted(Comparator.comparing(Issuance::getTxId))
+                .forEach(issuance -> sb.append("|I:").append(issuance.getTxId()).append(':').append(issuance.getAmount()));
+        paramChanges.stream()
+                .filter(paramChange -> paramChange.getActivationHeight() == block.getHeight())
+                .forEach(paramChange -> sb.append("|P:").append(paramChange.getParamName())
+                        .append(':').append(paramChange.getValue()));
+        return sb.toString();
+    }
+
+    private static void appendTx(StringBuilder sb, Tx tx) {
+        sb.append("|T:").append(tx.getId())
+                .append(':').append(tx.getTxType())
+                .append(':').append(tx.getBurntFee())
+                .append(':').append(tx.getLockTime())
+                .append(':').append(tx.getUnlockBlockHeight());
+        tx.getTxInputs().forEach(txInput -> sb.append(",i:").append(txInput.getConnectedTxOutputKey()));
+        tx.getTxOutputs().forEach(txOutput -> sb.append(",o:").append(txOutput.getIndex())
+                .append(':').append(txOutput.getValue())
+                .append(':').append(txOutput.getTxOutputType()));
+    }
+}
@@ -60,7 +60,7 @@ public abstract class BaseTx {
            long time,
            ImmutableList<TxInput> txInputs) {
         this.txVersion = txVersion;
-        this.id = id;
+        this.id = TxOutputKey.internTxId(id);
         this.blockHeight = blockHeight;
         this.blockHash = blockHash;
         this.time = time;
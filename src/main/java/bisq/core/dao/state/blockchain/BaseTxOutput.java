@@ -62,7 +62,7 @@ public abstract class BaseTxOutput {
                  int blockHeight) {
         this.index = index;
         this.value = value;
-        this.txId = txId;
+        this.txId = TxOutputKey.internTxId(txId);
         this.pubKeyScript = pubKeyScript;
         this.address = address;
         this.opReturnData = opReturnData;
@@ -17,16 +17,54 @@
 
 package bisq.core.dao.state.blockchain;
 
-import lombok.Value;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 
-@Value
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Key of a tx output, used as key in the maps of the BsqState.
+ * The txId strings of the stored keys are interned so the keys and outputs of a tx share one string instance. Keys
+ * created by getKey of a tx output use its already interned txId, keys read from the persisted state get interned in
+ * getKeyFromString. Lookup keys are not interned, so a lookup does not probe the interner. The hashCode is computed
+ * once.
+ */
+@Immutable
 public final class TxOutputKey {
+    private static final Interner<String> TX_ID_INTERNER = Interners.newWeakInterner();
+
     private final String txId;
     private final int index;
+    private final int hashCode;
 
     public TxOutputKey(String txId, int index) {
         this.txId = txId;
         this.index = index;
+        this.hashCode = 31 * txId.hashCode() + index;
+    }
+
+    public String getTxId() {
+        return txId;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof TxOutputKey))
+            return false;
+
+        TxOutputKey other = (TxOutputKey) o;
+        return index == other.index && hashCode == other.hashCode && txId.equals(other.txId);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
     }
 
     @Override
@@ -35,7 +73,12 @@ public final class TxOutputKey {
     }
 
     public static TxOutputKey getKeyFromString(String keyAsString) {
-        final String[] tokens = keyAsString.split(":");
-        return new TxOutputKey(tokens[0], Integer.valueOf(tokens[1]));
+        int separatorIndex = keyAsString.lastIndexOf(':');
+        return new TxOutputKey(internTxId(keyAsString.substring(0, separatorIndex)),
+                Integer.parseInt(keyAsString.substring(separatorIndex + 1)));
+    }
+
+    static String internTxId(String txId) {
+        return TX_ID_INTERNER.intern(txId);
     }
 }
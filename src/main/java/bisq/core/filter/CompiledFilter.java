@@ -0,0 +1,127 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.filter;
+
+import bisq.core.payment.payload.PaymentAccountPayload;
+
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableSet;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+
+/**
+ * Lookup structures for a verified Filter. We build it once when a filter is received so the checks done for each
+ * offer and each trade protocol step are hash lookups instead of scans over the ban lists.
+ * The getters used by the payment account filters are resolved once per payload class and method name.
+ */
+@Slf4j
+class CompiledFilter {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    // Resolved getters are independent of the filter so we keep them across filter updates.
+    // Key is class name and method name, value is empty if the method does not exist.
+    private static final Map<String, Optional<MethodHandle>> GETTERS = new ConcurrentHashMap<>();
+
+    @Getter
+    private final Filter filter;
+    private final Set<String> bannedOfferIds;
+    private final Set<String> bannedNodeAddresses;
+    private final Set<String> bannedCurrencies;
+    private final Set<String> bannedPaymentMethods;
+    private final ImmutableListMultimap<String, PaymentAccountFilter> bannedPaymentAccountsByMethodId;
+
+    CompiledFilter(Filter filter) {
+        this.filter = filter;
+        bannedOfferIds = toSet(filter.getBannedOfferIds());
+        bannedNodeAddresses = toSet(filter.getBannedNodeAddress());
+        bannedCurrencies = toSet(filter.getBannedCurrencies());
+        bannedPaymentMethods = toSet(filter.getBannedPaymentMethods());
+
+        ImmutableListMultimap.Builder<String, PaymentAccountFilter> builder = ImmutableListMultimap.builder();
+        if (filter.getBannedPaymentAccounts() != null)
+            filter.getBannedPaymentAccounts().forEach(e -> builder.put(e.getPaymentMethodId(), e));
+        bannedPaymentAccountsByMethodId = builder.build();
+    }
+
+    boolean isOfferIdBanned(String offerId) {
+        return bannedOfferIds.contains(offerId);
+    }
+
+    boolean isNodeAddressBanned(String fullAddress) {
+        return bannedNodeAddresses.contains(fullAddress);
+    }
+
+    boolean isCurrencyBanned(String currencyCode) {
+        return bannedCurrencies.contains(currencyCode);
+    }
+
+    boolean isPaymentMethodBanned(String paymentMethodId) {
+        return bannedPaymentMethods.contains(paymentMethodId);
+    }
+
+    /**
+     * @return The first payment account filter matching the payload or null if none matches.
+     */
+    @Nullable
+    PaymentAccountFilter findMatchingPaymentAccountFilter(PaymentAccountPayload paymentAccountPayload) {
+        List<PaymentAccountFilter> candidates = bannedPaymentAccountsByMethodId.get(paymentAccountPayload.getPaymentMethodId());
+        for (PaymentAccountFilter paymentAccountFilter : candidates) {
+            Optional<MethodHandle> getter = getGetter(paymentAccountPayload.getClass(), paymentAccountFilter.getGetMethodName());
+            if (!getter.isPresent())
+                continue;
+
+            try {
+                Object result = getter.get().invokeExact((Object) paymentAccountPayload);
+                if (paymentAccountFilter.getValue().equals(result))
+                    return paymentAccountFilter;
+            } catch (Throwable t) {
+                log.error(t.getMessage());
+            }
+        }
+        return null;
+    }
+
+    private static Optional<MethodHandle> getGetter(Class<?> clazz, String methodName) {
+        return GETTERS.computeIfAbsent(clazz.getName() + "." + methodName, key -> {
+            try {
+                MethodHandle methodHandle = MethodHandles.publicLookup().unreflect(clazz.getMethod(methodName));
+                return Optional.of(methodHandle.asType(GETTER_TYPE));
+            } catch (Throwable t) {
+                log.error("Could not resolve method {} of class {}: {}", methodName, clazz.getSimpleName(), t.getMessage());
+                return Optional.empty();
+            }
+        });
+    }
+
+    private static Set<String> toSet(@Nullable Collection<String> list) {
+        return list != null ? ImmutableSet.copyOf(list) : ImmutableSet.of();
+    }
+}
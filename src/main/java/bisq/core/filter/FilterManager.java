@@ -54,12 +54,14 @@ import java.math.BigInteger;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
-import java.lang.reflect.Method;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -92,6 +94,10 @@ public class FilterManager {
     private boolean ignoreDevMsg;
     private final ObjectProperty<Filter> filterProperty = new SimpleObjectProperty<>();
     private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    // Built once for each received filter, checks are done for each offer and trade protocol step
+    @Nullable
+    private volatile CompiledFilter compiledFilter;
+    private final Map<String, LongAdder> ruleHits = new ConcurrentHashMap<>();
 
     private final String pubKeyAsHex;
     private ECKey filterSigningKey;
@@ -201,6 +207,7 @@ public class FilterManager {
         if (providersRepository.getBannedNodes() != null)
             providersRepository.applyBannedNodes(null);
 
+        compiledFilter = null;
         filterProperty.set(null);
     }
 
@@ -218,6 +225,7 @@ public class FilterManager {
 
             providersRepository.applyBannedNodes(priceRelayNodes);
 
+            compiledFilter = new CompiledFilter(filter);
             filterProperty.set(filter);
             listeners.forEach(e -> e.onFilterAdded(filter));
 
@@ -324,51 +332,61 @@ public class FilterManager {
     }
 
     public boolean isCurrencyBanned(String currencyCode) {
-        return getFilter() != null &&
-                getFilter().getBannedCurrencies() != null &&
-                getFilter().getBannedCurrencies().stream()
-                        .anyMatch(e -> e.equals(currencyCode));
+        CompiledFilter compiledFilter = this.compiledFilter;
+        return compiledFilter != null &&
+                countHit(compiledFilter.isCurrencyBanned(currencyCode), "currency", currencyCode);
     }
 
     public boolean isPaymentMethodBanned(PaymentMethod paymentMethod) {
-        return getFilter() != null &&
-                getFilter().getBannedPaymentMethods() != null &&
-                getFilter().getBannedPaymentMethods().stream()
-                        .anyMatch(e -> e.equals(paymentMethod.getId()));
+        CompiledFilter compiledFilter = this.compiledFilter;
+        return compiledFilter != null &&
+                countHit(compiledFilter.isPaymentMethodBanned(paymentMethod.getId()), "paymentMethod", paymentMethod.getId());
     }
 
     public boolean isOfferIdBanned(String offerId) {
-        return getFilter() != null &&
-                getFilter().getBannedOfferIds().stream()
-                        .anyMatch(e -> e.equals(offerId));
+        CompiledFilter compiledFilter = this.compiledFilter;
+        return compiledFilter != null &&
+                countHit(compiledFilter.isOfferIdBanned(offerId), "offerId", offerId);
     }
 
     public boolean isNodeAddressBanned(NodeAddress nodeAddress) {
-        return getFilter() != null &&
-                getFilter().getBannedNodeAddress().stream()
-                        .anyMatch(e -> e.equals(nodeAddress.getFullAddress()));
+        CompiledFilter compiledFilter = this.compiledFilter;
+        return compiledFilter != null &&
+                countHit(compiledFilter.isNodeAddressBanned(nodeAddress.getFullAddress()), "nodeAddress", nodeAddress.getFullAddress());
     }
 
     public boolean isPeersPaymentAccountDataAreBanned(PaymentAccountPayload paymentAccountPayload,
                                                       PaymentAccountFilter[] appliedPaymentAccountFilter) {
-        return getFilter() != null &&
-                getFilter().getBannedPaymentAccounts().stream()
-                        .anyMatch(paymentAccountFilter -> {
-                            final boolean samePaymentMethodId = paymentAccountFilter.getPaymentMethodId().equals(
-                                    paymentAccountPayload.getPaymentMethodId());
-                            if (samePaymentMethodId) {
-                                try {
-                                    Method method = paymentAccountPayload.getClass().getMethod(paymentAccountFilter.getGetMethodName());
-                                    String result = (String) method.invoke(paymentAccountPayload);
-                                    appliedPaymentAccountFilter[0] = paymentAccountFilter;
-                                    return result.equals(paymentAccountFilter.getValue());
-                                } catch (Throwable e) {
-                                    log.error(e.getMessage());
-                                    return false;
-                                }
-                            } else {
-                                return false;
-                            }
-                        });
+        CompiledFilter compiledFilter = this.compiledFilter;
+        if (compiledFilter == null)
+            return false;
+
+        PaymentAccountFilter paymentAccountFilter = compiledFilter.findMatchingPaymentAccountFilter(paymentAccountPayload);
+        if (paymentAccountFilter == null)
+            return false;
+
+        appliedPaymentAccountFilter[0] = paymentAccountFilter;
+        return countHit(true, "paymentAccount", paymentAccountFilter.getPaymentMethodId() + "." +
+                paymentAccountFilter.getGetMethodName());
+    }
+
+    /**
+     * @return Number of hits per rule since startup. The key is the rule type and the banned value.
+     */
+    public Map<String, Long> getRuleHits() {
+        Map<String, Long> map = new TreeMap<>();
+        ruleHits.forEach((key, value) -> map.put(key, value.sum()));
+        return map;
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private boolean countHit(boolean isBanned, String ruleType, String value) {
+        if (isBanned)
+            ruleHits.computeIfAbsent(ruleType + ":" + value, k -> new LongAdder()).increment();
+        return isBanned;
     }
 }
@@ -17,10 +17,8 @@
 
 package bisq.core.locale;
 
-import com.google.common.collect.Collections2;
-import com.google.common.collect.Lists;
-
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -28,27 +26,27 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class CountryUtil {
-    public static List<Country> getAllSepaEuroCountries() {
-        List<Country> list = new ArrayList<>();
-        String[] codes = {"AT", "BE", "CY", "DE", "EE", "FI", "FR", "GR", "IE",
-                "IT", "LV", "LT", "LU", "MC", "MT", "NL", "PT", "SK", "SI", "ES"};
-        populateCountryListByCodes(list, codes);
-        list.sort((a, b) -> a.name.compareTo(b.name));
+    // Country names depend on the display locale, so we keep one table for each display locale and language
+    private static final Map<String, CountryTable> countryTablesByLocale = new ConcurrentHashMap<>();
 
-        return list;
+    public static List<Country> getAllSepaEuroCountries() {
+        return new ArrayList<>(getCountryTable().sepaEuroCountries);
     }
 
     public static List<Country> getAllSepaInstantEuroCountries() {
         return getAllSepaEuroCountries();
     }
 
-    private static void populateCountryListByCodes(List<Country> list, String[] codes) {
+    private static List<Country> createSortedCountryListByCodes(String[] codes) {
+        List<Country> list = new ArrayList<>();
         for (String code : codes) {
             Locale locale = new Locale(LanguageUtil.getDefaultLanguage(), code, "");
             final String countryCode = locale.getCountry();
@@ -59,11 +57,13 @@ public class CountryUtil {
                 country = new Country(countryCode, getNameByCode(countryCode), region);
             list.add(country);
         }
+        list.sort((a, b) -> a.name.compareTo(b.name));
+        return list;
     }
 
     public static boolean containsAllSepaEuroCountries(List<String> countryCodesToCompare) {
         countryCodesToCompare.sort(String::compareTo);
-        List<String> countryCodesBase = getAllSepaEuroCountries().stream().map(c -> c.code).collect(Collectors.toList());
+        List<String> countryCodesBase = getCountryTable().sepaEuroCountries.stream().map(c -> c.code).collect(Collectors.toList());
         return countryCodesToCompare.toString().equals(countryCodesBase.toString());
     }
 
@@ -72,12 +72,7 @@ public class CountryUtil {
     }
 
     public static List<Country> getAllSepaNonEuroCountries() {
-        List<Country> list = new ArrayList<>();
-        String[] codes = {"BG", "HR", "CZ", "DK", "GB", "HU", "PL", "RO",
-                "SE", "IS", "NO", "LI", "CH"};
-        populateCountryListByCodes(list, codes);
-        list.sort((a, b) -> a.name.compareTo(b.name));
-        return list;
+        return new ArrayList<>(getCountryTable().sepaNonEuroCountries);
     }
 
     public static List<Country> getAllSepaInstantNonEuroCountries() {
@@ -85,9 +80,9 @@ public class CountryUtil {
     }
 
     public static List<Country> getAllSepaCountries() {
-        List<Country> list = new ArrayList<>();
-        list.addAll(getAllSepaEuroCountries());
-        list.addAll(getAllSepaNonEuroCountries());
+        CountryTable countryTable = getCountryTable();
+        List<Country> list = new ArrayList<>(countryTable.sepaEuroCountries);
+        list.addAll(countryTable.sepaNonEuroCountries);
         return list;
     }
 
@@ -110,7 +105,7 @@ public class CountryUtil {
     }
 
     public static Optional<Country> findCountryByCode(String countryCode) {
-        return getAllCountries().stream().filter(e -> e.code.equals(countryCode)).findAny();
+        return Optional.ofNullable(getCountryTable().countriesByCode.get(countryCode));
     }
 
     public static String getNameByCode(String countryCode) {
@@ -133,37 +128,26 @@ public class CountryUtil {
     }
 
     public static List<Region> getAllRegions() {
-        final List<Region> allRegions = new ArrayList<>();
-
-        String regionCode = "AM";
-        Region region = new Region(regionCode, getRegionName(regionCode));
-        allRegions.add(region);
-
-        regionCode = "AF";
-        region = new Region(regionCode, getRegionName(regionCode));
-        allRegions.add(region);
-
-        regionCode = "EU";
-        region = new Region(regionCode, getRegionName(regionCode));
-        allRegions.add(region);
+        return new ArrayList<>(ALL_REGIONS);
+    }
 
-        regionCode = "AS";
-        region = new Region(regionCode, getRegionName(regionCode));
-        allRegions.add(region);
+    public static List<Country> getAllCountriesForRegion(Region selectedRegion) {
+        if (selectedRegion == null)
+            return new ArrayList<>();
 
-        regionCode = "OC";
-        region = new Region(regionCode, getRegionName(regionCode));
-        allRegions.add(region);
+        return new ArrayList<>(getCountryTable().countriesByRegion.getOrDefault(selectedRegion, Collections.emptyList()));
+    }
 
-        return allRegions;
+    public static List<Country> getAllCountries() {
+        return new ArrayList<>(getCountryTable().allCountries);
     }
 
-    public static List<Country> getAllCountriesForRegion(Region selectedRegion) {
-        return Lists.newArrayList(Collections2.filter(getAllCountries(), country ->
-                selectedRegion != null && country != null && selectedRegion.equals(country.region)));
+    private static CountryTable getCountryTable() {
+        String key = Locale.getDefault(Locale.Category.DISPLAY).toLanguageTag() + "/" + LanguageUtil.getDefaultLanguage();
+        return countryTablesByLocale.computeIfAbsent(key, k -> new CountryTable());
     }
 
-    public static List<Country> getAllCountries() {
+    private static List<Country> createAllCountries() {
         final Set<Country> allCountries = new HashSet<>();
         for (final Locale locale : getAllCountryLocales()) {
             String regionCode = getRegionCode(locale.getCountry());
@@ -465,6 +449,10 @@ public class CountryUtil {
         regionByCountryCodeMap.put("ZW", "AF"); // name=Zimbabwe / region=Africa / subregion=Eastern Africa
     }
 
+    private static final List<Region> ALL_REGIONS = Collections.unmodifiableList(Stream.of("AM", "AF", "EU", "AS", "OC")
+            .map(regionCode -> new Region(regionCode, getRegionName(regionCode)))
+            .collect(Collectors.toList()));
+
     public static String getRegionCode(String countryCode) {
         if (regionByCountryCodeMap.containsKey(countryCode))
             return regionByCountryCodeMap.get(countryCode);
@@ -480,4 +468,34 @@ public class CountryUtil {
     private static Locale getLocale() {
         return GlobalSettings.getLocale();
     }
+
+
+    // Immutable country lists and lookup maps for one display locale
+    private static class CountryTable {
+        private final List<Country> allCountries;
+        private final Map<String, Country> countriesByCode;
+        private final Map<Region, List<Country>> countriesByRegion;
+        private final List<Country> sepaEuroCountries;
+        private final List<Country> sepaNonEuroCountries;
+
+        private CountryTable() {
+            allCountries = Collections.unmodifiableList(createAllCountries());
+
+            Map<String, Country> byCode = new HashMap<>();
+            Map<Region, List<Country>> byRegion = new HashMap<>();
+            allCountries.forEach(country -> {
+                byCode.putIfAbsent(country.code, country);
+                byRegion.computeIfAbsent(country.region, k -> new ArrayList<>()).add(country);
+            });
+            countriesByCode = Collections.unmodifiableMap(byCode);
+            byRegion.replaceAll((region, list) -> Collections.unmodifiableList(list));
+            countriesByRegion = Collections.unmodifiableMap(byRegion);
+
+            sepaEuroCountries = Collections.unmodifiableList(createSortedCountryListByCodes(new String[]{"AT", "BE",
+                    "CY", "DE", "EE", "FI", "FR", "GR", "IE", "IT", "LV", "LT", "LU", "MC", "MT", "NL", "PT", "SK",
+                    "SI", "ES"}));
+            sepaNonEuroCountries = Collections.unmodifiableList(createSortedCountryListByCodes(new String[]{"BG",
+                    "HR", "CZ", "DK", "GB", "HU", "PL", "RO", "SE", "IS", "NO", "LI", "CH"}));
+        }
+    }
 }
@@ -18,6 +18,7 @@
 package bisq.core.locale;
 
 import bisq.core.app.BisqEnvironment;
+import bisq.core.monetary.Altcoin;
 
 import bisq.asset.Asset;
 import bisq.asset.AssetRegistry;
@@ -27,15 +28,21 @@ import bisq.asset.coins.BSQ;
 
 import bisq.common.app.DevEnv;
 
+import org.bitcoinj.utils.Fiat;
+
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Currency;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
@@ -50,8 +57,17 @@ public class CurrencyUtil {
     private static final AssetRegistry assetRegistry = new AssetRegistry();
 
     private static String baseCurrencyCode = "BTC";
-    private static List<FiatCurrency> allSortedFiatCurrencies;
-    private static List<CryptoCurrency> allSortedCryptoCurrencies;
+    // The lists and maps are created at first use, which can happen at several threads at startup. Each map is set
+    // before its list, so a thread which sees the list also sees the map.
+    private static volatile List<FiatCurrency> allSortedFiatCurrencies;
+    private static volatile List<CryptoCurrency> allSortedCryptoCurrencies;
+    // Lookup maps by currency code. Those checks are called very often (e.g. at sorting the offer book), so we don't
+    // want to stream over hundreds of assets.
+    private static volatile Map<String, FiatCurrency> fiatCurrencyMapByCode;
+    private static volatile Map<String, CryptoCurrency> cryptoCurrencyMapByCode;
+    // We limit the size as we get the currency codes from the network
+    private static final int MAX_IS_FIAT_CURRENCY_CACHE_SIZE = 1000;
+    private static final Map<String, Boolean> isFiatCurrencyCache = new ConcurrentHashMap<>();
 
     public static void setBaseCurrencyCode(String baseCurrencyCode) {
         CurrencyUtil.baseCurrencyCode = baseCurrencyCode;
@@ -59,11 +75,25 @@ public class CurrencyUtil {
 
     public static List<FiatCurrency> getAllSortedFiatCurrencies() {
         if (Objects.isNull(allSortedFiatCurrencies))
-            allSortedFiatCurrencies = createAllSortedFiatCurrenciesList();
+            initFiatCurrencies();
 
         return allSortedFiatCurrencies;
     }
 
+    private static Map<String, FiatCurrency> getFiatCurrencyMapByCode() {
+        if (fiatCurrencyMapByCode == null)
+            initFiatCurrencies();
+        return fiatCurrencyMapByCode;
+    }
+
+    private static synchronized void initFiatCurrencies() {
+        if (allSortedFiatCurrencies == null) {
+            List<FiatCurrency> list = createAllSortedFiatCurrenciesList();
+            fiatCurrencyMapByCode = toMapByCode(list);
+            allSortedFiatCurrencies = list;
+        }
+    }
+
     private static List<FiatCurrency> createAllSortedFiatCurrenciesList() {
         Set<FiatCurrency> set = CountryUtil.getAllCountries().stream()
                 .map(country -> getCurrencyByCountryCode(country.code))
@@ -99,10 +129,30 @@ public class CurrencyUtil {
 
     public static List<CryptoCurrency> getAllSortedCryptoCurrencies() {
         if (allSortedCryptoCurrencies == null)
-            allSortedCryptoCurrencies = createAllSortedCryptoCurrenciesList();
+            initCryptoCurrencies();
         return allSortedCryptoCurrencies;
     }
 
+    private static Map<String, CryptoCurrency> getCryptoCurrencyMapByCode() {
+        if (cryptoCurrencyMapByCode == null)
+            initCryptoCurrencies();
+        return cryptoCurrencyMapByCode;
+    }
+
+    private static synchronized void initCryptoCurrencies() {
+        if (allSortedCryptoCurrencies == null) {
+            List<CryptoCurrency> list = createAllSortedCryptoCurrenciesList();
+            cryptoCurrencyMapByCode = toMapByCode(list);
+            allSortedCryptoCurrencies = list;
+        }
+    }
+
+    private static <T extends TradeCurrency> Map<String, T> toMapByCode(List<T> list) {
+        // In case of duplicates we keep the first entry, same as a search in the sorted list would do
+        return Collections.unmodifiableMap(list.stream()
+                .collect(Collectors.toMap(TradeCurrency::getCode, Function.identity(), (first, second) -> first)));
+    }
+
     private static List<CryptoCurrency> createAllSortedCryptoCurrenciesList() {
         List<CryptoCurrency> result = assetRegistry.stream()
                 .filter(CurrencyUtil::assetIsNotBaseCurrency)
@@ -301,27 +351,40 @@ public class CurrencyUtil {
     }
 
     public static boolean isFiatCurrency(String currencyCode) {
+        if (currencyCode == null || currencyCode.isEmpty())
+            return false;
+
+        Boolean cached = isFiatCurrencyCache.get(currencyCode);
+        if (cached != null)
+            return cached;
+
+        boolean result;
         try {
-            return currencyCode != null
-                    && !currencyCode.isEmpty()
-                    && !isCryptoCurrency(currencyCode)
-                    && Currency.getInstance(currencyCode) != null;
+            result = !isCryptoCurrency(currencyCode) && Currency.getInstance(currencyCode) != null;
         } catch (Throwable t) {
-            return false;
+            result = false;
         }
+        if (isFiatCurrencyCache.size() < MAX_IS_FIAT_CURRENCY_CACHE_SIZE)
+            isFiatCurrencyCache.put(currencyCode, result);
+        return result;
     }
 
     public static Optional<FiatCurrency> getFiatCurrency(String currencyCode) {
-        return getAllSortedFiatCurrencies().stream().filter(e -> e.getCode().equals(currencyCode)).findAny();
+        return currencyCode != null ? Optional.ofNullable(getFiatCurrencyMapByCode().get(currencyCode)) : Optional.empty();
     }
 
     @SuppressWarnings("WeakerAccess")
     public static boolean isCryptoCurrency(String currencyCode) {
-        return getCryptoCurrency(currencyCode).isPresent();
+        return currencyCode != null && getCryptoCurrencyMapByCode().containsKey(currencyCode);
     }
 
     public static Optional<CryptoCurrency> getCryptoCurrency(String currencyCode) {
-        return getAllSortedCryptoCurrencies().stream().filter(e -> e.getCode().equals(currencyCode)).findAny();
+        return currencyCode != null ? Optional.ofNullable(getCryptoCurrencyMapByCode().get(currencyCode)) : Optional.empty();
+    }
+
+    // Number of decimal places we use for prices in that currency
+    public static int getSmallestUnitExponent(String currencyCode) {
+        return isCryptoCurrency(currencyCode) ? Altcoin.SMALLEST_UNIT_EXPONENT : Fiat.SMALLEST_UNIT_EXPONENT;
     }
 
     public static Optional<TradeCurrency> getTradeCurrency(String currencyCode) {
@@ -346,8 +409,9 @@ public class CurrencyUtil {
 
 
     public static String getNameByCode(String currencyCode) {
-        if (isCryptoCurrency(currencyCode))
-            return getCryptoCurrency(currencyCode).get().getName();
+        Optional<CryptoCurrency> cryptoCurrencyOptional = getCryptoCurrency(currencyCode);
+        if (cryptoCurrencyOptional.isPresent())
+            return cryptoCurrencyOptional.get().getName();
 
         try {
             return Currency.getInstance(currencyCode).getDisplayName();
@@ -18,6 +18,7 @@
 package bisq.core.locale;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 
@@ -27,8 +28,20 @@ import org.slf4j.LoggerFactory;
 public class LocaleUtil {
     private static final Logger log = LoggerFactory.getLogger(LocaleUtil.class);
 
+    // The list is independent of the display locale so we build it only once
+    private static volatile List<Locale> allLocales;
+
     public static List<Locale> getAllLocales() {
+        if (allLocales == null) {
+            synchronized (LocaleUtil.class) {
+                if (allLocales == null)
+                    allLocales = Collections.unmodifiableList(createAllLocales());
+            }
+        }
+        return allLocales;
+    }
 
+    private static List<Locale> createAllLocales() {
         // Data from https://restcountries.eu/rest/v2/all?fields=name;region;subregion;alpha2Code;languages
         List<Locale> allLocales = new ArrayList<>();
 
@@ -19,7 +19,6 @@ package bisq.core.notifications.alerts.market;
 
 import bisq.core.locale.CurrencyUtil;
 import bisq.core.locale.Res;
-import bisq.core.monetary.Altcoin;
 import bisq.core.monetary.Price;
 import bisq.core.notifications.MobileMessage;
 import bisq.core.notifications.MobileMessageType;
@@ -35,8 +34,6 @@ import bisq.core.util.BSFormatter;
 import bisq.common.crypto.KeyRing;
 import bisq.common.util.MathUtils;
 
-import org.bitcoinj.utils.Fiat;
-
 import javax.inject.Inject;
 
 import java.util.List;
@@ -131,9 +128,7 @@ public class MarketAlerts {
                         int triggerValue = marketAlertFilter.getTriggerValue();
                         boolean isTriggerForBuyOffer = marketAlertFilter.isBuyOffer();
                         double marketPriceAsDouble1 = marketPrice.getPrice();
-                        int precision = CurrencyUtil.isCryptoCurrency(currencyCode) ?
-                                Altcoin.SMALLEST_UNIT_EXPONENT :
-                                Fiat.SMALLEST_UNIT_EXPONENT;
+                        int precision = CurrencyUtil.getSmallestUnitExponent(currencyCode);
                         double marketPriceAsDouble = MathUtils.scaleUpByPowerOf10(marketPriceAsDouble1, precision);
                         double offerPriceValue = offerPrice.getValue();
                         double ratio = offerPriceValue / marketPriceAsDouble;
@@ -19,7 +19,6 @@ package bisq.core.notifications.alerts.price;
 
 import bisq.core.locale.CurrencyUtil;
 import bisq.core.locale.Res;
-import bisq.core.monetary.Altcoin;
 import bisq.core.notifications.MobileMessage;
 import bisq.core.notifications.MobileMessageType;
 import bisq.core.notifications.MobileNotificationService;
@@ -30,8 +29,6 @@ import bisq.core.util.BSFormatter;
 
 import bisq.common.util.MathUtils;
 
-import org.bitcoinj.utils.Fiat;
-
 import javax.inject.Inject;
 
 import lombok.extern.slf4j.Slf4j;
@@ -61,7 +58,7 @@ public class PriceAlert {
             String currencyCode = filter.getCurrencyCode();
             MarketPrice marketPrice = priceFeedService.getMarketPrice(currencyCode);
             if (marketPrice != null) {
-                int exp = CurrencyUtil.isCryptoCurrency(currencyCode) ? Altcoin.SMALLEST_UNIT_EXPONENT : Fiat.SMALLEST_UNIT_EXPONENT;
+                int exp = CurrencyUtil.getSmallestUnitExponent(currencyCode);
                 double priceAsDouble = marketPrice.getPrice();
                 long priceAsLong = MathUtils.roundDoubleToLong(MathUtils.scaleUpByPowerOf10(priceAsDouble, exp));
                 String currencyName = CurrencyUtil.getNameByCode(currencyCode);
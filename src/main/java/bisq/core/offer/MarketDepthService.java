@@ -0,0 +1,302 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.offer;
+
+import bisq.core.locale.CurrencyUtil;
+import bisq.core.monetary.Price;
+import bisq.core.provider.price.PriceFeedService;
+
+import org.bitcoinj.core.Coin;
+
+import javax.inject.Inject;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+
+/**
+ * Keeps a price sorted order book with cumulative depth per market (currency code and direction).
+ * The books are updated incrementally from the offer book changes and get re-ranked lazily after a new price
+ * epoch of the price feed, so queries don't need to rebuild all offers from the p2p data map.
+ * <p>
+ * Offers are sorted from best to worst for a taker. For fiat markets the best BUY offer (bid) has the highest
+ * price and the best SELL offer (ask) the lowest. For altcoins the price is inverted (BTC per altcoin) so the
+ * order is reversed as well.
+ * Offers without a price (market based offers without a recent market price) are not part of the sorted books.
+ * All access is expected from the user thread.
+ */
+@Slf4j
+public class MarketDepthService {
+    private final OfferBookService offerBookService;
+    private final PriceFeedService priceFeedService;
+    private final Map<String, Book> booksByMarket = new HashMap<>();
+    private boolean initialized;
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Constructor
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    @Inject
+    public MarketDepthService(OfferBookService offerBookService, PriceFeedService priceFeedService) {
+        this.offerBookService = offerBookService;
+        this.priceFeedService = priceFeedService;
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Lifecycle
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public void onAllServicesInitialized() {
+        if (initialized)
+            return;
+
+        initialized = true;
+        offerBookService.addOfferBookChangedListener(new OfferBookService.OfferBookChangedListener() {
+            @Override
+            public void onAdded(Offer offer) {
+                addOffer(offer);
+            }
+
+            @Override
+            public void onRemoved(Offer offer) {
+                removeOffer(offer);
+            }
+        });
+        offerBookService.getOffers().forEach(this::addOffer);
+
+        priceFeedService.updateCounterProperty().addListener((observable, oldValue, newValue) ->
+                booksByMarket.values().forEach(Book::onPriceEpochChanged));
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // API
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * @return A copy of the offers of the market with a known price, sorted from best to worst price for a taker.
+     */
+    public List<Offer> getOffers(String currencyCode, OfferPayload.Direction direction) {
+        Book book = booksByMarket.get(getMarketKey(currencyCode, direction));
+        return book != null ? new ArrayList<>(book.getSortedOffers()) : new ArrayList<>();
+    }
+
+    public Optional<Offer> getBestOffer(String currencyCode, OfferPayload.Direction direction) {
+        Book book = booksByMarket.get(getMarketKey(currencyCode, direction));
+        return book != null ? book.getBestOffer() : Optional.empty();
+    }
+
+    /**
+     * @return Best price of the offers to buy BTC.
+     */
+    public Optional<Price> getBestBid(String currencyCode) {
+        return getBestOffer(currencyCode, OfferPayload.Direction.BUY).map(Offer::getPrice);
+    }
+
+    /**
+     * @return Best price of the offers to sell BTC.
+     */
+    public Optional<Price> getBestAsk(String currencyCode) {
+        return getBestOffer(currencyCode, OfferPayload.Direction.SELL).map(Offer::getPrice);
+    }
+
+    /**
+     * @return Difference between best ask and best bid. It is negative if the book is crossed. For altcoins the
+     * prices are inverted, so we subtract the ask from the bid.
+     */
+    public Optional<Price> getSpread(String currencyCode) {
+        Optional<Price> bestBid = getBestBid(currencyCode);
+        Optional<Price> bestAsk = getBestAsk(currencyCode);
+        if (!bestBid.isPresent() || !bestAsk.isPresent())
+            return Optional.empty();
+
+        if (CurrencyUtil.isCryptoCurrency(currencyCode))
+            return Optional.of(bestBid.get().subtract(bestAsk.get()));
+        else
+            return Optional.of(bestAsk.get().subtract(bestBid.get()));
+    }
+
+    /**
+     * @return Sum of the BTC amounts of all offers of the market with the given price or a better one.
+     */
+    public Coin getDepthAtPrice(String currencyCode, OfferPayload.Direction direction, Price price) {
+        Book book = booksByMarket.get(getMarketKey(currencyCode, direction));
+        return book != null ? Coin.valueOf(book.getDepthAtPrice(price.getValue())) : Coin.ZERO;
+    }
+
+    /**
+     * @return Sum of the BTC amounts of all offers of the market with a known price.
+     */
+    public Coin getTotalDepth(String currencyCode, OfferPayload.Direction direction) {
+        Book book = booksByMarket.get(getMarketKey(currencyCode, direction));
+        return book != null ? Coin.valueOf(book.getTotalDepth()) : Coin.ZERO;
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private void addOffer(Offer offer) {
+        String key = getMarketKey(offer.getCurrencyCode(), offer.getDirection());
+        booksByMarket.computeIfAbsent(key, k -> new Book(isDescending(offer.getCurrencyCode(), offer.getDirection())))
+                .add(offer);
+    }
+
+    private void removeOffer(Offer offer) {
+        String key = getMarketKey(offer.getCurrencyCode(), offer.getDirection());
+        Book book = booksByMarket.get(key);
+        if (book != null) {
+            book.remove(offer.getId());
+            if (book.isEmpty())
+                booksByMarket.remove(key);
+        }
+    }
+
+    private static String getMarketKey(String currencyCode, OfferPayload.Direction direction) {
+        return currencyCode + "_" + direction.name();
+    }
+
+    // Best price first: highest for fiat bids and lowest for fiat asks, reversed for altcoins as their price is inverted
+    private static boolean isDescending(String currencyCode, OfferPayload.Direction direction) {
+        return (direction == OfferPayload.Direction.BUY) != CurrencyUtil.isCryptoCurrency(currencyCode);
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Book
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private static class Book {
+        private final boolean descending;
+        private final Map<String, Offer> offersById = new LinkedHashMap<>();
+        // Sorted view and cumulative amounts get rebuilt lazily after a change
+        private final List<Offer> sortedOffers = new ArrayList<>();
+        private long[] sortedPrices = new long[0];
+        private long[] cumulativeAmounts = new long[0];
+        private boolean dirty;
+
+        Book(boolean descending) {
+            this.descending = descending;
+        }
+
+        void add(Offer offer) {
+            offersById.put(offer.getId(), offer);
+            dirty = true;
+        }
+
+        void remove(String offerId) {
+            if (offersById.remove(offerId) != null)
+                dirty = true;
+        }
+
+        boolean isEmpty() {
+            return offersById.isEmpty();
+        }
+
+        void onPriceEpochChanged() {
+            // Fixed price offers keep their rank but market based offers can move
+            for (Offer offer : offersById.values()) {
+                if (offer.isUseMarketBasedPrice()) {
+                    offer.updatePrice();
+                    dirty = true;
+                }
+            }
+        }
+
+        // The returned list gets refilled at the next change, so it must not be passed to callers
+        List<Offer> getSortedOffers() {
+            maybeSort();
+            return sortedOffers;
+        }
+
+        Optional<Offer> getBestOffer() {
+            maybeSort();
+            return sortedOffers.isEmpty() ? Optional.empty() : Optional.of(sortedOffers.get(0));
+        }
+
+        long getTotalDepth() {
+            maybeSort();
+            return cumulativeAmounts.length > 0 ? cumulativeAmounts[cumulativeAmounts.length - 1] : 0;
+        }
+
+        long getDepthAtPrice(long priceValue) {
+            maybeSort();
+            // Binary search for the number of offers with a price at least as good as priceValue
+            int low = 0;
+            int high = sortedPrices.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (isAtLeastAsGood(sortedPrices[mid], priceValue))
+                    low = mid + 1;
+                else
+                    high = mid;
+            }
+            return low > 0 ? cumulativeAmounts[low - 1] : 0;
+        }
+
+        private boolean isAtLeastAsGood(long offerPrice, long priceValue) {
+            return descending ? offerPrice >= priceValue : offerPrice <= priceValue;
+        }
+
+        private void maybeSort() {
+            if (!dirty)
+                return;
+
+            sortedOffers.clear();
+            for (Offer offer : offersById.values()) {
+                if (getPriceValue(offer) != null)
+                    sortedOffers.add(offer);
+            }
+
+            // We sort by the captured price values as getPrice of market based offers could change in between
+            Map<String, Long> priceById = new HashMap<>();
+            sortedOffers.forEach(offer -> priceById.put(offer.getId(), getPriceValue(offer)));
+            Comparator<Offer> comparator = Comparator.comparingLong(offer -> priceById.get(offer.getId()));
+            sortedOffers.sort(descending ? comparator.reversed() : comparator);
+
+            int size = sortedOffers.size();
+            sortedPrices = new long[size];
+            cumulativeAmounts = new long[size];
+            long sum = 0;
+            for (int i = 0; i < size; i++) {
+                Offer offer = sortedOffers.get(i);
+                sortedPrices[i] = priceById.get(offer.getId());
+                sum += offer.getAmount().value;
+                cumulativeAmounts[i] = sum;
+            }
+            dirty = false;
+        }
+
+        @Nullable
+        private static Long getPriceValue(Offer offer) {
+            Price price = offer.getPrice();
+            return price != null ? price.getValue() : null;
+        }
+    }
+}
@@ -19,7 +19,6 @@ package bisq.core.offer;
 
 import bisq.core.exceptions.TradePriceOutOfToleranceException;
 import bisq.core.locale.CurrencyUtil;
-import bisq.core.monetary.Altcoin;
 import bisq.core.monetary.Price;
 import bisq.core.monetary.Volume;
 import bisq.core.offer.availability.OfferAvailabilityModel;
@@ -43,7 +42,6 @@ import bisq.common.util.Utilities;
 import io.bisq.generated.protobuffer.PB;
 
 import org.bitcoinj.core.Coin;
-import org.bitcoinj.utils.Fiat;
 
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyStringProperty;
@@ -109,6 +107,24 @@ public class Offer implements NetworkPayload, PersistablePayload {
     @Setter
     transient private PriceFeedService priceFeedService;
 
+    // Price and volumes are requested very often (e.g. by sorting and filtering the offer book), so we cache them.
+    // The offerPayload is immutable, so for market based offers the price only changes with the market price
+    // which is covered by the price epoch of the priceFeedService.
+    @JsonExclude
+    @Nullable
+    transient private Price cachedPrice;
+    @JsonExclude
+    transient private int cachedPriceEpoch = -1;
+    @JsonExclude
+    @Nullable
+    transient private Price priceOfCachedVolumes;
+    @JsonExclude
+    @Nullable
+    transient private Volume cachedVolume;
+    @JsonExclude
+    @Nullable
+    transient private Volume cachedMinVolume;
+
 
     ///////////////////////////////////////////////////////////////////////////////////////////
     // Constructor
@@ -165,39 +181,57 @@ public class Offer implements NetworkPayload, PersistablePayload {
             checkNotNull(priceFeedService, "priceFeed must not be null");
             MarketPrice marketPrice = priceFeedService.getMarketPrice(currencyCode);
             if (marketPrice != null && marketPrice.isRecentExternalPriceAvailable()) {
-                double factor;
-                double marketPriceMargin = offerPayload.getMarketPriceMargin();
-                if (CurrencyUtil.isCryptoCurrency(currencyCode)) {
-                    factor = getDirection() == OfferPayload.Direction.SELL ?
-                            1 - marketPriceMargin : 1 + marketPriceMargin;
-                } else {
-                    factor = getDirection() == OfferPayload.Direction.BUY ?
-                            1 - marketPriceMargin : 1 + marketPriceMargin;
-                }
-                double marketPriceAsDouble = marketPrice.getPrice();
-                double targetPriceAsDouble = marketPriceAsDouble * factor;
-                try {
-                    int precision = CurrencyUtil.isCryptoCurrency(currencyCode) ?
-                            Altcoin.SMALLEST_UNIT_EXPONENT :
-                            Fiat.SMALLEST_UNIT_EXPONENT;
-                    double scaled = MathUtils.scaleUpByPowerOf10(targetPriceAsDouble, precision);
-                    final long roundedToLong = MathUtils.roundDoubleToLong(scaled);
-                    return Price.valueOf(currencyCode, roundedToLong);
-                } catch (Exception e) {
-                    log.error("Exception at getPrice / parseToFiat: " + e.toString() + "\n" +
-                            "That case should never happen.");
-                    return null;
+                int priceEpoch = priceFeedService.getPriceEpoch();
+                if (cachedPrice == null || cachedPriceEpoch != priceEpoch) {
+                    cachedPrice = getMarketBasedPrice(currencyCode, marketPrice);
+                    cachedPriceEpoch = priceEpoch;
                 }
+                return cachedPrice;
             } else {
                 log.debug("We don't have a market price.\n" +
                         "That case could only happen if you don't have a price feed.");
                 return null;
             }
         } else {
-            return Price.valueOf(currencyCode, offerPayload.getPrice());
+            if (cachedPrice == null)
+                cachedPrice = Price.valueOf(currencyCode, offerPayload.getPrice());
+            return cachedPrice;
+        }
+    }
+
+    @Nullable
+    private Price getMarketBasedPrice(String currencyCode, MarketPrice marketPrice) {
+        double factor;
+        double marketPriceMargin = offerPayload.getMarketPriceMargin();
+        boolean isCryptoCurrency = CurrencyUtil.isCryptoCurrency(currencyCode);
+        if (isCryptoCurrency) {
+            factor = getDirection() == OfferPayload.Direction.SELL ?
+                    1 - marketPriceMargin : 1 + marketPriceMargin;
+        } else {
+            factor = getDirection() == OfferPayload.Direction.BUY ?
+                    1 - marketPriceMargin : 1 + marketPriceMargin;
+        }
+        double marketPriceAsDouble = marketPrice.getPrice();
+        double targetPriceAsDouble = marketPriceAsDouble * factor;
+        try {
+            int precision = CurrencyUtil.getSmallestUnitExponent(currencyCode);
+            double scaled = MathUtils.scaleUpByPowerOf10(targetPriceAsDouble, precision);
+            final long roundedToLong = MathUtils.roundDoubleToLong(scaled);
+            return Price.valueOf(currencyCode, roundedToLong);
+        } catch (Exception e) {
+            log.error("Exception at getPrice / parseToFiat: " + e.toString() + "\n" +
+                    "That case should never happen.");
+            return null;
         }
     }
 
+    // Updates the cached price and volumes. Can be called once after a price feed update for all offers of the
+    // offer book so that sorting and filtering only use the cached values.
+    public void updatePrice() {
+        getVolume();
+        getMinVolume();
+    }
+
     public void checkTradePriceTolerance(long takersTradePrice) throws TradePriceOutOfToleranceException,
             MarketPriceNotAvailableException, IllegalArgumentException {
         Price tradePrice = Price.valueOf(getCurrencyCode(), takersTradePrice);
@@ -237,6 +271,15 @@ public class Offer implements NetworkPayload, PersistablePayload {
         }
     }
 
+    private void maybeResetCachedVolumes() {
+        Price price = getPrice();
+        if (price != priceOfCachedVolumes) {
+            priceOfCachedVolumes = price;
+            cachedVolume = null;
+            cachedMinVolume = null;
+        }
+    }
+
     public void resetState() {
         setState(Offer.State.UNKNOWN);
     }
@@ -321,12 +364,18 @@ public class Offer implements NetworkPayload, PersistablePayload {
 
     @Nullable
     public Volume getVolume() {
-        return getVolumeByAmount(getAmount());
+        maybeResetCachedVolumes();
+        if (cachedVolume == null)
+            cachedVolume = getVolumeByAmount(getAmount());
+        return cachedVolume;
     }
 
     @Nullable
     public Volume getMinVolume() {
-        return getVolumeByAmount(getMinAmount());
+        maybeResetCachedVolumes();
+        if (cachedMinVolume == null)
+            cachedMinVolume = getVolumeByAmount(getMinAmount());
+        return cachedMinVolume;
     }
 
     public boolean isBuyOffer() {
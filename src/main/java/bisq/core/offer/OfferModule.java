@@ -36,5 +36,6 @@ public class OfferModule extends AppModule {
     protected final void configure() {
         bind(OpenOfferManager.class).in(Singleton.class);
         bind(OfferBookService.class).in(Singleton.class);
+        bind(MarketDepthService.class).in(Singleton.class);
     }
 }
@@ -31,6 +31,7 @@ import bisq.core.trade.closed.ClosedTradableManager;
 import bisq.core.trade.handlers.TransactionResultHandler;
 import bisq.core.user.Preferences;
 import bisq.core.user.User;
+import bisq.core.util.TokenBucket;
 import bisq.core.util.Validator;
 
 import bisq.network.p2p.AckMessage;
@@ -66,6 +67,8 @@ import java.io.File;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -89,6 +92,11 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
     private static final long REPUBLISH_AGAIN_AT_STARTUP_DELAY_SEC = 30;
     private static final long REPUBLISH_INTERVAL_MS = TimeUnit.MINUTES.toMillis(30);
     private static final long REFRESH_INTERVAL_MS = TimeUnit.MINUTES.toMillis(5);
+    // We allow bursts of 20 broadcasts and 10 broadcasts per second in the long run to stay well below the
+    // throttle limits of our peers
+    private static final int BROADCAST_BURST_CAPACITY = 20;
+    private static final double BROADCASTS_PER_SEC = 10;
+    private static final long BROADCAST_QUEUE_INTERVAL_MS = 100;
 
     private final KeyRing keyRing;
     private final User user;
@@ -103,7 +111,11 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
     private final Storage<TradableList<OpenOffer>> openOfferTradableListStorage;
     private final Map<String, OpenOffer> offersToBeEdited = new HashMap<>();
     private boolean stopped;
-    private Timer periodicRepublishOffersTimer, periodicRefreshOffersTimer, retryRepublishOffersTimer;
+    private Timer periodicRepublishOffersTimer, periodicRefreshOffersTimer, retryRepublishOffersTimer, broadcastQueueTimer;
+    // Offers waiting for republish or refresh, keyed by offer ID. A pending republish makes a refresh obsolete.
+    private final Map<String, OpenOffer> pendingRepublishOffers = new LinkedHashMap<>();
+    private final Map<String, OpenOffer> pendingRefreshOffers = new LinkedHashMap<>();
+    private final TokenBucket broadcastTokenBucket = new TokenBucket(BROADCAST_BURST_CAPACITY, BROADCASTS_PER_SEC);
     private TradableList<OpenOffer> openOffers;
 
 
@@ -190,6 +202,7 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
         stopPeriodicRefreshOffersTimer();
         stopPeriodicRepublishOffersTimer();
         stopRetryRepublishOffersTimer();
+        stopBroadcastQueue();
 
         log.debug("remove all open offers at shutDown");
         // we remove own offers from offerbook when we go offline
@@ -288,6 +301,7 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
         stopPeriodicRefreshOffersTimer();
         stopPeriodicRepublishOffersTimer();
         stopRetryRepublishOffersTimer();
+        stopBroadcastQueue();
 
         restart();
     }
@@ -659,26 +673,18 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
 
     private void republishOffers() {
         int size = openOffers.size();
-        final ArrayList<OpenOffer> openOffersList = new ArrayList<>(openOffers.getList());
         Log.traceCall("Number of offer for republish: " + size);
         if (!stopped) {
             stopPeriodicRefreshOffersTimer();
-            for (int i = 0; i < size; i++) {
-                // we delay to avoid reaching throttle limits
-
-                long delay = 700;
-                final long minDelay = (i + 1) * delay;
-                final long maxDelay = (i + 2) * delay;
-                final OpenOffer openOffer = openOffersList.get(i);
-                UserThread.runAfterRandomDelay(() -> {
-                    if (openOffers.contains(openOffer)) {
-                        String id = openOffer.getId();
-                        if (id != null && !openOffer.isDeactivated())
-                            republishOffer(openOffer);
-                    }
-
-                }, minDelay, maxDelay, TimeUnit.MILLISECONDS);
-            }
+            // We don't send the offers at once but add them to the broadcast queue to avoid reaching throttle limits
+            openOffers.forEach(openOffer -> {
+                String id = openOffer.getId();
+                if (id != null && !openOffer.isDeactivated()) {
+                    pendingRefreshOffers.remove(id);
+                    pendingRepublishOffers.put(id, openOffer);
+                }
+            });
+            startBroadcastQueue();
         } else {
             log.debug("We have stopped already. We ignore that republishOffers call.");
         }
@@ -735,23 +741,12 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
                         if (!stopped) {
                             int size = openOffers.size();
                             Log.traceCall("Number of offer for refresh: " + size);
-
-                            //we clone our list as openOffers might change during our delayed call
-                            final ArrayList<OpenOffer> openOffersList = new ArrayList<>(openOffers.getList());
-                            for (int i = 0; i < size; i++) {
-                                // we delay to avoid reaching throttle limits
-                                // roughly 4 offers per second
-
-                                long delay = 300;
-                                final long minDelay = (i + 1) * delay;
-                                final long maxDelay = (i + 2) * delay;
-                                final OpenOffer openOffer = openOffersList.get(i);
-                                UserThread.runAfterRandomDelay(() -> {
-                                    // we need to check if in the meantime the offer has been removed
-                                    if (openOffers.contains(openOffer) && !openOffer.isDeactivated())
-                                        refreshOffer(openOffer);
-                                }, minDelay, maxDelay, TimeUnit.MILLISECONDS);
-                            }
+                            openOffers.forEach(openOffer -> {
+                                String id = openOffer.getId();
+                                if (!openOffer.isDeactivated() && !pendingRepublishOffers.containsKey(id))
+                                    pendingRefreshOffers.put(id, openOffer);
+                            });
+                            startBroadcastQueue();
                         } else {
                             log.debug("We have stopped already. We ignore that periodicRefreshOffersTimer.run call.");
                         }
@@ -768,6 +763,58 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
                 log::warn);
     }
 
+    private void startBroadcastQueue() {
+        if (broadcastQueueTimer == null && (!pendingRepublishOffers.isEmpty() || !pendingRefreshOffers.isEmpty()))
+            broadcastQueueTimer = UserThread.runPeriodically(this::processBroadcastQueue,
+                    BROADCAST_QUEUE_INTERVAL_MS,
+                    TimeUnit.MILLISECONDS);
+    }
+
+    // We use one timer for all pending broadcasts instead of one timer per offer. The token bucket limits the rate,
+    // so with many offers a round completes in a few seconds without flooding our peers.
+    private void processBroadcastQueue() {
+        if (stopped) {
+            log.debug("We have stopped already. We ignore that processBroadcastQueue call.");
+            stopBroadcastQueue();
+            return;
+        }
+
+        while (!pendingRepublishOffers.isEmpty() || !pendingRefreshOffers.isEmpty()) {
+            if (!broadcastTokenBucket.tryConsume())
+                return;
+
+            boolean isRepublish = !pendingRepublishOffers.isEmpty();
+            Iterator<OpenOffer> iterator = isRepublish ?
+                    pendingRepublishOffers.values().iterator() :
+                    pendingRefreshOffers.values().iterator();
+            OpenOffer openOffer = iterator.next();
+            iterator.remove();
+
+            // we need to check if in the meantime the offer has been removed or deactivated
+            if (openOffers.contains(openOffer) && !openOffer.isDeactivated()) {
+                if (isRepublish)
+                    republishOffer(openOffer);
+                else
+                    refreshOffer(openOffer);
+            }
+        }
+
+        stopBroadcastQueueTimer();
+    }
+
+    private void stopBroadcastQueue() {
+        pendingRepublishOffers.clear();
+        pendingRefreshOffers.clear();
+        stopBroadcastQueueTimer();
+    }
+
+    private void stopBroadcastQueueTimer() {
+        if (broadcastQueueTimer != null) {
+            broadcastQueueTimer.stop();
+            broadcastQueueTimer = null;
+        }
+    }
+
     private void restart() {
         log.debug("Restart after connection loss");
         if (retryRepublishOffersTimer == null)
@@ -0,0 +1,131 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.offer.availability;
+
+import bisq.core.offer.Offer;
+
+import bisq.network.p2p.NodeAddress;
+
+import bisq.common.handlers.ResultHandler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Checks the availability of many offers at once. Requests to different makers run in parallel. Requests to the
+ * same maker are pipelined with a limited number of requests in flight, so we don't wait for each response before
+ * sending the next request but also don't flood a busy maker.
+ * The result of each offer is its state after the check (e.g. AVAILABLE, NOT_AVAILABLE or MAKER_OFFLINE).
+ * Expected to be used from the user thread.
+ */
+@Slf4j
+public class OfferAvailabilityBatchProbe {
+    private static final int MAX_PENDING_REQUESTS_PER_MAKER = 3;
+
+    private final Function<Offer, OfferAvailabilityModel> modelFactory;
+    private final Consumer<Offer> offerResultHandler;
+    private final ResultHandler completeHandler;
+    private final Map<NodeAddress, Deque<Offer>> queuedOffersByMaker = new HashMap<>();
+    private final Map<NodeAddress, Integer> numPendingRequestsByMaker = new HashMap<>();
+    private final Set<Offer> pendingOffers = new HashSet<>();
+    private int numRemainingOffers;
+    private boolean canceled;
+
+    /**
+     * @param modelFactory       Creates the model for the availability protocol of an offer
+     * @param offerResultHandler Called for each offer once its check is completed
+     * @param completeHandler    Called once all offers are checked
+     */
+    public OfferAvailabilityBatchProbe(List<Offer> offers,
+                                       Function<Offer, OfferAvailabilityModel> modelFactory,
+                                       Consumer<Offer> offerResultHandler,
+                                       ResultHandler completeHandler) {
+        this.modelFactory = modelFactory;
+        this.offerResultHandler = offerResultHandler;
+        this.completeHandler = completeHandler;
+        offers.stream().distinct().forEach(offer -> {
+            queuedOffersByMaker.computeIfAbsent(offer.getMakerNodeAddress(), k -> new ArrayDeque<>()).add(offer);
+            numRemainingOffers++;
+        });
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // API
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public void start() {
+        if (numRemainingOffers == 0) {
+            completeHandler.handleResult();
+            return;
+        }
+
+        log.info("Check availability of {} offers of {} makers", numRemainingOffers, queuedOffersByMaker.size());
+        new ArrayList<>(queuedOffersByMaker.keySet()).forEach(this::sendNextRequests);
+    }
+
+    public void cancel() {
+        canceled = true;
+        queuedOffersByMaker.clear();
+        pendingOffers.forEach(Offer::cancelAvailabilityRequest);
+        pendingOffers.clear();
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private void sendNextRequests(NodeAddress maker) {
+        Deque<Offer> queue = queuedOffersByMaker.get(maker);
+        while (!canceled && queue != null && !queue.isEmpty() &&
+                numPendingRequestsByMaker.getOrDefault(maker, 0) < MAX_PENDING_REQUESTS_PER_MAKER) {
+            Offer offer = queue.poll();
+            numPendingRequestsByMaker.merge(maker, 1, Integer::sum);
+            pendingOffers.add(offer);
+            offer.checkOfferAvailability(modelFactory.apply(offer),
+                    () -> onOfferChecked(maker, offer),
+                    errorMessage -> onOfferChecked(maker, offer));
+        }
+        if (queue != null && queue.isEmpty())
+            queuedOffersByMaker.remove(maker);
+    }
+
+    private void onOfferChecked(NodeAddress maker, Offer offer) {
+        if (canceled || !pendingOffers.remove(offer))
+            return;
+
+        numPendingRequestsByMaker.merge(maker, -1, Integer::sum);
+        numRemainingOffers--;
+        offerResultHandler.accept(offer);
+        if (numRemainingOffers == 0)
+            completeHandler.handleResult();
+        else
+            sendNextRequests(maker);
+    }
+}
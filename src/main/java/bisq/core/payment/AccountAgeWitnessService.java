@@ -72,6 +72,7 @@ public class AccountAgeWitnessService {
     private final KeyRing keyRing;
     private final P2PService p2PService;
     private final User user;
+    private final AccountAgeWitnessStorageService accountAgeWitnessStorageService;
 
     private final Map<P2PDataStorage.ByteArray, AccountAgeWitness> accountAgeWitnessMap = new HashMap<>();
 
@@ -88,6 +89,7 @@ public class AccountAgeWitnessService {
         this.keyRing = keyRing;
         this.p2PService = p2PService;
         this.user = user;
+        this.accountAgeWitnessStorageService = accountAgeWitnessStorageService;
 
         // We need to add that early (before onAllServicesInitialized) as it will be used at startup.
         appendOnlyDataStoreService.addService(accountAgeWitnessStorageService);
@@ -105,10 +107,7 @@ public class AccountAgeWitnessService {
         });
 
         // At startup the P2PDataStorage initializes earlier, otherwise we ge the listener called.
-        p2PService.getP2PDataStorage().getAppendOnlyDataStoreMap().values().forEach(e -> {
-            if (e instanceof AccountAgeWitness)
-                addToMap((AccountAgeWitness) e);
-        });
+        accountAgeWitnessStorageService.getAccountAgeWitnessStream().forEach(this::addToMap);
 
         if (p2PService.isBootstrapped()) {
             republishAllFiatAccounts();
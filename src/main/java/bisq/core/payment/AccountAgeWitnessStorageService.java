@@ -17,12 +17,16 @@
 
 package bisq.core.payment;
 
+import bisq.core.util.PayloadStoreFileReader;
+
 import bisq.network.p2p.storage.P2PDataStorage;
 import bisq.network.p2p.storage.payload.PersistableNetworkPayload;
 import bisq.network.p2p.storage.persistence.StoreService;
 
 import bisq.common.storage.Storage;
 
+import io.bisq.generated.protobuffer.PB;
+
 import com.google.inject.name.Named;
 
 import javax.inject.Inject;
@@ -30,6 +34,7 @@ import javax.inject.Inject;
 import java.io.File;
 
 import java.util.Map;
+import java.util.stream.Stream;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -39,6 +44,12 @@ import static com.google.common.base.Preconditions.checkArgument;
 public class AccountAgeWitnessStorageService extends StoreService<AccountAgeWitnessStore, PersistableNetworkPayload> {
     public static final String FILE_NAME = "AccountAgeWitnessStore";
 
+    private static final PayloadStoreFileReader<PB.AccountAgeWitness> STORE_FILE_READER = new PayloadStoreFileReader<>(
+            PB.PersistableEnvelope.ACCOUNT_AGE_WITNESS_STORE_FIELD_NUMBER,
+            PB.AccountAgeWitnessStore.ITEMS_FIELD_NUMBER,
+            PB.AccountAgeWitness.parser(),
+            AccountAgeWitness::fromProto);
+
 
     ///////////////////////////////////////////////////////////////////////////////////////////
     // Constructor
@@ -69,6 +80,10 @@ public class AccountAgeWitnessStorageService extends StoreService<AccountAgeWitn
         return payload instanceof AccountAgeWitness;
     }
 
+    public Stream<AccountAgeWitness> getAccountAgeWitnessStream() {
+        return getMap().values().stream().map(payload -> (AccountAgeWitness) payload);
+    }
+
 
     ///////////////////////////////////////////////////////////////////////////////////////////
     // Protected
@@ -81,6 +96,12 @@ public class AccountAgeWitnessStorageService extends StoreService<AccountAgeWitn
 
     @Override
     protected void readStore() {
+        AccountAgeWitnessStore persisted = createStore();
+        if (STORE_FILE_READER.readStore(new File(absolutePathOfStorageDir), getFileName(), storage, persisted.getMap())) {
+            store = persisted;
+            return;
+        }
+
         super.readStore();
         checkArgument(store instanceof AccountAgeWitnessStore,
                 "Store is not instance of AccountAgeWitnessStore. That can happen if the ProtoBuffer " +
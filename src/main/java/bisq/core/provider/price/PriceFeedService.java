@@ -279,6 +279,12 @@ public class PriceFeedService {
         return updateCounter;
     }
 
+    // The update counter gets incremented with each change of the market prices, so it can be used as an epoch
+    // for caching values derived from market prices.
+    public int getPriceEpoch() {
+        return updateCounter.get();
+    }
+
     public Date getLastRequestTimeStampBtcAverage() {
         return new Date(epochInSecondAtLastRequest * 1000);
     }
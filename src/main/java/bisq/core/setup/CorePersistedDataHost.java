@@ -40,7 +40,6 @@ import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.name.Names;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import lombok.extern.slf4j.Slf4j;
@@ -50,24 +49,32 @@ public class CorePersistedDataHost {
 
     // All classes which are persisting objects need to be added here
     public static List<PersistedDataHost> getPersistedDataHosts(Injector injector) {
-        List<PersistedDataHost> persistedDataHosts = new ArrayList<>();
-        persistedDataHosts.add(injector.getInstance(Preferences.class));
-        persistedDataHosts.add(injector.getInstance(User.class));
-        persistedDataHosts.add(injector.getInstance(AddressEntryList.class));
-        persistedDataHosts.add(injector.getInstance(OpenOfferManager.class));
-        persistedDataHosts.add(injector.getInstance(TradeManager.class));
-        persistedDataHosts.add(injector.getInstance(ClosedTradableManager.class));
-        persistedDataHosts.add(injector.getInstance(FailedTradesManager.class));
-        persistedDataHosts.add(injector.getInstance(DisputeManager.class));
-        persistedDataHosts.add(injector.getInstance(P2PService.class));
+        return getPersistedDataHostLoader(injector).getPersistedDataHosts();
+    }
+
+    // Preferences sets the locale and base currency used by the other hosts, so they get read after it.
+    // The trade and account hosts read independent files and can be read in parallel. P2PService and the DAO hosts
+    // notify listeners when reading, so they are read afterwards on the calling thread in the previous order.
+    public static PersistedDataHostLoader getPersistedDataHostLoader(Injector injector) {
+        PersistedDataHostLoader loader = new PersistedDataHostLoader();
+        Preferences preferences = injector.getInstance(Preferences.class);
+        loader.add(preferences);
+        loader.add(injector.getInstance(User.class), preferences);
+        loader.add(injector.getInstance(AddressEntryList.class), preferences);
+        loader.add(injector.getInstance(OpenOfferManager.class), preferences);
+        loader.add(injector.getInstance(TradeManager.class), preferences);
+        loader.add(injector.getInstance(ClosedTradableManager.class), preferences);
+        loader.add(injector.getInstance(FailedTradesManager.class), preferences);
+        loader.add(injector.getInstance(DisputeManager.class), preferences);
+        loader.addSequential(injector.getInstance(P2PService.class));
 
         if (injector.getInstance(Key.get(Boolean.class, Names.named(DaoOptionKeys.DAO_ACTIVATED)))) {
-            persistedDataHosts.add(injector.getInstance(BallotListService.class));
-            persistedDataHosts.add(injector.getInstance(MyBlindVoteListService.class));
-            persistedDataHosts.add(injector.getInstance(MyVoteListService.class));
-            persistedDataHosts.add(injector.getInstance(MyProposalListService.class));
-            persistedDataHosts.add(injector.getInstance(BondedRolesService.class));
+            loader.addSequential(injector.getInstance(BallotListService.class));
+            loader.addSequential(injector.getInstance(MyBlindVoteListService.class));
+            loader.addSequential(injector.getInstance(MyVoteListService.class));
+            loader.addSequential(injector.getInstance(MyProposalListService.class));
+            loader.addSequential(injector.getInstance(BondedRolesService.class));
         }
-        return persistedDataHosts;
+        return loader;
     }
 }
@@ -0,0 +1,136 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.setup;
+
+import bisq.common.proto.persistable.PersistedDataHost;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Reads the persisted data of the PersistedDataHosts in parallel. Each host can declare the hosts it depends on,
+ * a host is only read after all its dependencies are done. load() blocks until all hosts have read their data, so
+ * the caller sees the same state as with a sequential PersistedDataHost.apply.
+ * Hosts which notify listeners while reading their data are added with addSequential. They are read one after the
+ * other on the calling thread once all parallel hosts are done, so their listeners are called on that thread.
+ * Like in PersistedDataHost.apply an exception at one host is logged and does not stop the other hosts.
+ */
+@Slf4j
+public class PersistedDataHostLoader {
+    private static final int MAX_THREADS = 4;
+
+    private final Map<PersistedDataHost, List<PersistedDataHost>> dependenciesByHost = new LinkedHashMap<>();
+    private final List<PersistedDataHost> sequentialHosts = new ArrayList<>();
+    // Time from the start of load() until the host's data was ready, and the time the host itself used for reading
+    @Getter
+    private final Map<String, Long> readyAfterMs = Collections.synchronizedMap(new LinkedHashMap<>());
+    @Getter
+    private final Map<String, Long> durationMs = Collections.synchronizedMap(new LinkedHashMap<>());
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // API
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public PersistedDataHostLoader add(PersistedDataHost host, PersistedDataHost... dependencies) {
+        Arrays.stream(dependencies).forEach(dependency -> checkArgument(dependenciesByHost.containsKey(dependency),
+                "Dependencies must be added before the hosts depending on it. dependency=" + getName(dependency)));
+        dependenciesByHost.put(host, Arrays.asList(dependencies));
+        return this;
+    }
+
+    public PersistedDataHostLoader addSequential(PersistedDataHost host) {
+        sequentialHosts.add(host);
+        return this;
+    }
+
+    public List<PersistedDataHost> getPersistedDataHosts() {
+        List<PersistedDataHost> hosts = new ArrayList<>(dependenciesByHost.keySet());
+        hosts.addAll(sequentialHosts);
+        return hosts;
+    }
+
+    public void load() {
+        long ts = System.currentTimeMillis();
+        int numThreads = Math.max(1, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors()));
+        ThreadFactory threadFactory = new ThreadFactoryBuilder()
+                .setNameFormat("PersistedDataHostLoader-%d")
+                .setDaemon(true)
+                .build();
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads, threadFactory);
+        try {
+            Map<PersistedDataHost, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+            // As dependencies have to be added first we always find the futures of the dependencies
+            dependenciesByHost.forEach((host, dependencies) -> {
+                CompletableFuture<?>[] dependencyFutures = dependencies.stream()
+                        .map(futures::get)
+                        .toArray(CompletableFuture[]::new);
+                futures.put(host, CompletableFuture.allOf(dependencyFutures)
+                        .thenRunAsync(() -> read(host, ts), executor));
+            });
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        sequentialHosts.forEach(host -> read(host, ts));
+
+        log.info("Reading persisted data of {} hosts with {} threads took {} ms. Ready after (ms): {}",
+                dependenciesByHost.size() + sequentialHosts.size(), numThreads, System.currentTimeMillis() - ts,
+                readyAfterMs);
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private void read(PersistedDataHost host, long startTs) {
+        String name = getName(host);
+        long ts = System.currentTimeMillis();
+        try {
+            log.info("call readPersisted at " + name);
+            host.readPersisted();
+        } catch (Throwable t) {
+            log.error("readPersisted error at " + name, t);
+        }
+        long now = System.currentTimeMillis();
+        durationMs.put(name, now - ts);
+        readyAfterMs.put(name, now - startTs);
+        log.debug("readPersisted at {} took {} ms", name, now - ts);
+    }
+
+    private static String getName(PersistedDataHost host) {
+        return host.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.trade;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Lookup map over an observable list of tradables, so we don't need to scan the list for each lookup by ID. The
+ * ID of a trade is the ID of its offer, so that map serves both. The index follows the changes of the list.
+ * Not thread safe, the lists are only accessed from the user thread.
+ */
+public class TradableIndex<T extends Tradable> {
+    private final ObservableList<T> list;
+    private final Map<String, T> tradablesById = new HashMap<>();
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Constructor
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public TradableIndex(ObservableList<T> list) {
+        this.list = list;
+        list.forEach(this::add);
+        list.addListener((ListChangeListener<T>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(this::remove);
+                change.getAddedSubList().forEach(this::add);
+            }
+        });
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // API
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public Optional<T> getById(String id) {
+        return Optional.ofNullable(tradablesById.get(id));
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private void add(T tradable) {
+        // Keep the first one in case of duplicates, as the former list scans did
+        tradablesById.putIfAbsent(tradable.getId(), tradable);
+    }
+
+    private void remove(T tradable) {
+        String id = tradable.getId();
+        if (tradablesById.get(id) == tradable) {
+            tradablesById.remove(id);
+            list.stream().filter(e -> e != tradable && e.getId().equals(id)).findFirst()
+                    .ifPresent(e -> tradablesById.put(id, e));
+        }
+    }
+}
@@ -27,6 +27,7 @@ import bisq.core.offer.Offer;
 import bisq.core.offer.OfferPayload;
 import bisq.core.offer.OpenOffer;
 import bisq.core.offer.OpenOfferManager;
+import bisq.core.offer.availability.OfferAvailabilityBatchProbe;
 import bisq.core.offer.availability.OfferAvailabilityModel;
 import bisq.core.payment.AccountAgeWitnessService;
 import bisq.core.provider.price.PriceFeedService;
@@ -86,6 +87,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -120,6 +122,7 @@ public class TradeManager implements PersistedDataHost {
 
     private final Storage<TradableList<Trade>> tradableListStorage;
     private TradableList<Trade> tradableList;
+    private TradableIndex<Trade> tradableIndex;
     private final BooleanProperty pendingTradesInitialized = new SimpleBooleanProperty();
     private List<Trade> tradesForStatistics;
     @Setter
@@ -184,7 +187,7 @@ public class TradeManager implements PersistedDataHost {
             if (networkEnvelope instanceof TradeMessage) {
                 TradeMessage tradeMessage = (TradeMessage) networkEnvelope;
                 String tradeId = tradeMessage.getTradeId();
-                Optional<Trade> tradeOptional = tradableList.stream().filter(e -> e.getId().equals(tradeId)).findAny();
+                Optional<Trade> tradeOptional = tradableIndex.getById(tradeId);
                 // The mailbox message will be removed inside the tasks after they are processed successfully
                 tradeOptional.ifPresent(trade -> trade.addDecryptedMessageWithPubKey(decryptedMessageWithPubKey));
             } else if (networkEnvelope instanceof AckMessage) {
@@ -212,6 +215,7 @@ public class TradeManager implements PersistedDataHost {
             if (offer != null)
                 offer.setPriceFeedService(priceFeedService);
         });
+        tradableIndex = new TradableIndex<>(tradableList.getList());
     }
 
 
@@ -380,6 +384,18 @@ public class TradeManager implements PersistedDataHost {
         offer.checkOfferAvailability(getOfferAvailabilityModel(offer), resultHandler, errorMessageHandler);
     }
 
+    // Checks many offers with pipelined requests per maker. The returned probe can be used to cancel the remaining checks.
+    public OfferAvailabilityBatchProbe checkOffersAvailability(List<Offer> offers,
+                                                               Consumer<Offer> offerResultHandler,
+                                                               ResultHandler completeHandler) {
+        OfferAvailabilityBatchProbe probe = new OfferAvailabilityBatchProbe(offers,
+                this::getOfferAvailabilityModel,
+                offerResultHandler,
+                completeHandler);
+        probe.start();
+        return probe;
+    }
+
     // When closing take offer view, we are not interested in the onCheckOfferAvailability result anymore, so remove from the map
     public void onCancelAvailabilityRequest(Offer offer) {
         offer.cancelAvailabilityRequest();
@@ -570,7 +586,7 @@ public class TradeManager implements PersistedDataHost {
     }
 
     public Optional<Trade> getTradeById(String tradeId) {
-        return tradableList.stream().filter(e -> e.getId().equals(tradeId)).findFirst();
+        return tradableIndex.getById(tradeId);
     }
 
     public Stream<AddressEntry> getAddressEntriesForAvailableBalanceStream() {
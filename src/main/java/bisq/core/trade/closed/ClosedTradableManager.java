@@ -21,6 +21,7 @@ import bisq.core.btc.wallet.BtcWalletService;
 import bisq.core.offer.Offer;
 import bisq.core.provider.price.PriceFeedService;
 import bisq.core.trade.Tradable;
+import bisq.core.trade.TradableIndex;
 import bisq.core.trade.TradableList;
 import bisq.core.trade.Trade;
 
@@ -47,6 +48,7 @@ import java.util.stream.Stream;
 public class ClosedTradableManager implements PersistedDataHost {
     private final Storage<TradableList<Tradable>> tradableListStorage;
     private TradableList<Tradable> closedTradables;
+    private TradableIndex<Tradable> closedTradablesIndex;
     private final KeyRing keyRing;
     private final PriceFeedService priceFeedService;
     private final BtcWalletService btcWalletService;
@@ -75,6 +77,7 @@ public class ClosedTradableManager implements PersistedDataHost {
                 trade.setTransientFields(tradableListStorage, btcWalletService);
             }
         });
+        closedTradablesIndex = new TradableIndex<>(closedTradables.getList());
     }
 
     public void add(Tradable tradable) {
@@ -97,7 +100,7 @@ public class ClosedTradableManager implements PersistedDataHost {
     }
 
     public Optional<Tradable> getTradableById(String id) {
-        return closedTradables.stream().filter(e -> e.getId().equals(id)).findFirst();
+        return closedTradablesIndex.getById(id);
     }
 
     public Stream<Trade> getLockedTradesStream() {
@@ -20,6 +20,7 @@ package bisq.core.trade.failed;
 import bisq.core.btc.wallet.BtcWalletService;
 import bisq.core.offer.Offer;
 import bisq.core.provider.price.PriceFeedService;
+import bisq.core.trade.TradableIndex;
 import bisq.core.trade.TradableList;
 import bisq.core.trade.Trade;
 
@@ -45,6 +46,7 @@ import org.slf4j.LoggerFactory;
 public class FailedTradesManager implements PersistedDataHost {
     private static final Logger log = LoggerFactory.getLogger(FailedTradesManager.class);
     private TradableList<Trade> failedTrades;
+    private TradableIndex<Trade> failedTradesIndex;
     private final KeyRing keyRing;
     private final PriceFeedService priceFeedService;
     private final BtcWalletService btcWalletService;
@@ -70,6 +72,7 @@ public class FailedTradesManager implements PersistedDataHost {
             trade.getOffer().setPriceFeedService(priceFeedService);
             trade.setTransientFields(tradableListStorage, btcWalletService);
         });
+        failedTradesIndex = new TradableIndex<>(failedTrades.getList());
     }
 
     public void add(Trade trade) {
@@ -86,7 +89,7 @@ public class FailedTradesManager implements PersistedDataHost {
     }
 
     public Optional<Trade> getTradeById(String id) {
-        return failedTrades.stream().filter(e -> e.getId().equals(id)).findFirst();
+        return failedTradesIndex.getById(id);
     }
 
     public Stream<Trade> getLockedTradesStream() {
@@ -62,6 +62,11 @@ public abstract class TradeProtocol {
         this.processModel = trade.getProcessModel();
 
         decryptedDirectMessageListener = (decryptedMessageWithPubKey, peersNodeAddress) -> {
+            // All trade protocols receive all direct messages, so we filter by the trade ID first which is cheaper
+            // than the signature key comparison.
+            if (!isMessageForThisTrade(decryptedMessageWithPubKey.getNetworkEnvelope()))
+                return;
+
             // We check the sig only as soon we have stored the peers pubKeyRing.
             PubKeyRing tradingPeerPubKeyRing = processModel.getTradingPeer().getPubKeyRing();
             PublicKey signaturePubKey = decryptedMessageWithPubKey.getSignaturePubKey();
@@ -102,6 +107,15 @@ public abstract class TradeProtocol {
         trade.stateProperty().addListener(stateChangeListener);
     }
 
+    private boolean isMessageForThisTrade(NetworkEnvelope networkEnvelope) {
+        if (networkEnvelope instanceof TradeMessage)
+            return processModel.getOfferId().equals(((TradeMessage) networkEnvelope).getTradeId());
+        else if (networkEnvelope instanceof AckMessage)
+            return trade.getId().equals(((AckMessage) networkEnvelope).getSourceId());
+        else
+            return false;
+    }
+
     public void completed() {
         cleanup();
 
@@ -17,12 +17,16 @@
 
 package bisq.core.trade.statistics;
 
+import bisq.core.util.PayloadStoreFileReader;
+
 import bisq.network.p2p.storage.P2PDataStorage;
 import bisq.network.p2p.storage.payload.PersistableNetworkPayload;
 import bisq.network.p2p.storage.persistence.StoreService;
 
 import bisq.common.storage.Storage;
 
+import io.bisq.generated.protobuffer.PB;
+
 import com.google.inject.name.Named;
 
 import javax.inject.Inject;
@@ -30,6 +34,7 @@ import javax.inject.Inject;
 import java.io.File;
 
 import java.util.Map;
+import java.util.stream.Stream;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -39,6 +44,12 @@ import static com.google.common.base.Preconditions.checkArgument;
 public class TradeStatistics2StorageService extends StoreService<TradeStatistics2Store, PersistableNetworkPayload> {
     public static final String FILE_NAME = "TradeStatistics2Store";
 
+    private static final PayloadStoreFileReader<PB.TradeStatistics2> STORE_FILE_READER = new PayloadStoreFileReader<>(
+            PB.PersistableEnvelope.TRADE_STATISTICS2_STORE_FIELD_NUMBER,
+            PB.TradeStatistics2Store.ITEMS_FIELD_NUMBER,
+            PB.TradeStatistics2.parser(),
+            TradeStatistics2::fromProto);
+
 
     ///////////////////////////////////////////////////////////////////////////////////////////
     // Constructor
@@ -70,6 +81,10 @@ public class TradeStatistics2StorageService extends StoreService<TradeStatistics
         return payload instanceof TradeStatistics2;
     }
 
+    public Stream<TradeStatistics2> getTradeStatisticsStream() {
+        return getMap().values().stream().map(payload -> (TradeStatistics2) payload);
+    }
+
 
     ///////////////////////////////////////////////////////////////////////////////////////////
     // Protected
@@ -82,6 +97,12 @@ public class TradeStatistics2StorageService extends StoreService<TradeStatistics
 
     @Override
     protected void readStore() {
+        TradeStatistics2Store persisted = createStore();
+        if (STORE_FILE_READER.readStore(new File(absolutePathOfStorageDir), getFileName(), storage, persisted.getMap())) {
+            store = persisted;
+            return;
+        }
+
         super.readStore();
         checkArgument(store instanceof TradeStatistics2Store,
                 "Store is not instance of TradeStatistics2Store. That can happen if the ProtoBuffer " +
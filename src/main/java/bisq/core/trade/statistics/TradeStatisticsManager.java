@@ -80,6 +80,7 @@ public class TradeStatisticsManager {
     private final P2PService p2PService;
     private final PriceFeedService priceFeedService;
     private final ReferralIdService referralIdService;
+    private final TradeStatistics2StorageService tradeStatistics2StorageService;
     private final boolean dumpStatistics;
     private final ObservableSet<TradeStatistics2> observableTradeStatisticsSet = FXCollections.observableSet();
 
@@ -94,6 +95,7 @@ public class TradeStatisticsManager {
         this.p2PService = p2PService;
         this.priceFeedService = priceFeedService;
         this.referralIdService = referralIdService;
+        this.tradeStatistics2StorageService = tradeStatistics2StorageService;
         this.dumpStatistics = dumpStatistics;
         jsonFileManager = new JsonFileManager(storageDir);
 
@@ -120,9 +122,8 @@ public class TradeStatisticsManager {
         });
 
         Map<String, TradeStatistics2> map = new HashMap<>();
-        p2PService.getP2PDataStorage().getAppendOnlyDataStoreMap().values().stream()
-                .filter(e -> e instanceof TradeStatistics2)
-                .forEach(e -> addToMap((TradeStatistics2) e, map));
+        tradeStatistics2StorageService.getTradeStatisticsStream()
+                .forEach(e -> addToMap(e, map));
         observableTradeStatisticsSet.addAll(map.values());
 
         priceFeedService.applyLatestBisqMarketPrice(observableTradeStatisticsSet);
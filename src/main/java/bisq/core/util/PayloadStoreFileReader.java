@@ -0,0 +1,171 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.util;
+
+import bisq.network.p2p.storage.P2PDataStorage;
+import bisq.network.p2p.storage.payload.PersistableNetworkPayload;
+
+import bisq.common.storage.Storage;
+import bisq.common.util.Utilities;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import com.google.protobuf.WireFormat;
+
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads the items of a persisted PersistableNetworkPayload store (e.g. TradeStatistics2Store) one by one from the
+ * file and adds them to the map of the store. We don't build the protobuf object of the whole store, so we only
+ * hold one item at a time beside the domain objects. The file is memory mapped if possible (not on Windows).
+ * <p>
+ * The file has the format written by the Storage: a length delimited PersistableEnvelope which has the store
+ * message as one of its fields, and the store message holds the repeated items.
+ */
+@Slf4j
+public class PayloadStoreFileReader<P extends MessageLite> {
+    private final int storeFieldNumber;
+    private final int itemsFieldNumber;
+    private final Parser<P> parser;
+    private final Function<P, PersistableNetworkPayload> fromProto;
+
+    /**
+     * @param storeFieldNumber Field number of the store in the PersistableEnvelope
+     * @param itemsFieldNumber Field number of the repeated items in the store message
+     * @param parser           Parser for an item
+     * @param fromProto        Converts a parsed item to the domain object
+     */
+    public PayloadStoreFileReader(int storeFieldNumber,
+                                  int itemsFieldNumber,
+                                  Parser<P> parser,
+                                  Function<P, PersistableNetworkPayload> fromProto) {
+        this.storeFieldNumber = storeFieldNumber;
+        this.itemsFieldNumber = itemsFieldNumber;
+        this.parser = parser;
+        this.fromProto = fromProto;
+    }
+
+    /**
+     * Reads the store file of a StoreService into the given map and inits the storage with the file name, as the
+     * default read of the StoreService would do.
+     *
+     * @return False if the file does not exist or could not be read. The caller should use the default read then,
+     * which also handles corrupted files.
+     */
+    public boolean readStore(File storageDir,
+                             String fileName,
+                             Storage<?> storage,
+                             Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> map) {
+        File file = new File(storageDir, fileName);
+        if (!file.exists())
+            return false;
+
+        try {
+            read(file, map);
+            storage.initWithFileName(fileName);
+            return true;
+        } catch (Throwable t) {
+            log.warn("Reading {} failed, we use the default read. {}", fileName, t.toString());
+            map.clear();
+            return false;
+        }
+    }
+
+    /**
+     * @return Number of items read
+     * @throws IOException If the file cannot be read or is not a valid store file. Items read before the error are
+     *                     already added to the map.
+     */
+    public int read(File file, Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> map) throws IOException {
+        long ts = System.currentTimeMillis();
+        int numItems;
+        // On Windows a mapped file stays locked until the buffer gets garbage collected, which would break the
+        // renaming of the file at the next save.
+        if (!Utilities.isWindows() && file.length() < Integer.MAX_VALUE) {
+            try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+                 FileChannel channel = randomAccessFile.getChannel()) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                numItems = read(CodedInputStream.newInstance(buffer), map);
+            }
+        } else {
+            try (InputStream inputStream = new BufferedInputStream(new FileInputStream(file))) {
+                numItems = read(CodedInputStream.newInstance(inputStream), map);
+            }
+        }
+        log.info("Reading {} items from {} took {} ms", numItems, file.getName(), System.currentTimeMillis() - ts);
+        return numItems;
+    }
+
+    private int read(CodedInputStream input, Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> map)
+            throws IOException {
+        // The stores can be larger than the default limit of 64 MB
+        input.setSizeLimit(Integer.MAX_VALUE);
+        int envelopeLimit = input.pushLimit(input.readRawVarint32());
+        int numItems = 0;
+        boolean storeFound = false;
+        while (!input.isAtEnd()) {
+            int tag = input.readTag();
+            if (WireFormat.getTagFieldNumber(tag) == storeFieldNumber &&
+                    WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                storeFound = true;
+                numItems += readItems(input, map);
+            } else if (!input.skipField(tag)) {
+                break;
+            }
+        }
+        input.popLimit(envelopeLimit);
+
+        if (!storeFound)
+            throw new IOException("File does not contain a store with field number " + storeFieldNumber);
+        return numItems;
+    }
+
+    private int readItems(CodedInputStream input, Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> map)
+            throws IOException {
+        int storeLimit = input.pushLimit(input.readRawVarint32());
+        int numItems = 0;
+        while (!input.isAtEnd()) {
+            int tag = input.readTag();
+            if (WireFormat.getTagFieldNumber(tag) == itemsFieldNumber) {
+                P proto = input.readMessage(parser, ExtensionRegistryLite.getEmptyRegistry());
+                PersistableNetworkPayload payload = fromProto.apply(proto);
+                map.put(new P2PDataStorage.ByteArray(payload.getHash()), payload);
+                numItems++;
+            } else if (!input.skipField(tag)) {
+                break;
+            }
+        }
+        input.popLimit(storeLimit);
+        return numItems;
+    }
+}
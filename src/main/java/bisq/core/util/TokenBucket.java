@@ -0,0 +1,72 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.util;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Simple token bucket rate limiter. Tokens are refilled continuously with the given rate up to the capacity, so
+ * short bursts up to the capacity are allowed while the long term rate is limited to tokensPerSecond.
+ * Not thread safe, we use it only from the user thread.
+ */
+public class TokenBucket {
+    private final int capacity;
+    private final double tokensPerMs;
+    private final LongSupplier clock;
+    private double tokens;
+    private long lastRefillTs;
+
+    public TokenBucket(int capacity, double tokensPerSecond) {
+        this(capacity, tokensPerSecond, System::currentTimeMillis);
+    }
+
+    TokenBucket(int capacity, double tokensPerSecond, LongSupplier clock) {
+        if (capacity <= 0 || tokensPerSecond <= 0)
+            throw new IllegalArgumentException("capacity and tokensPerSecond must be positive");
+
+        this.capacity = capacity;
+        this.tokensPerMs = tokensPerSecond / 1000d;
+        this.clock = clock;
+        this.tokens = capacity;
+        this.lastRefillTs = clock.getAsLong();
+    }
+
+    public boolean tryConsume() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    public int getAvailableTokens() {
+        refill();
+        return (int) tokens;
+    }
+
+    private void refill() {
+        long now = clock.getAsLong();
+        long elapsed = now - lastRefillTs;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * tokensPerMs);
+            lastRefillTs = now;
+        }
+    }
+}
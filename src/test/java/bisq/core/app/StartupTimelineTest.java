@@ -0,0 +1,74 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.app;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class StartupTimelineTest {
+
+    @Test
+    public void testCriticalPath() throws InterruptedException {
+        StartupTimeline timeline = new StartupTimeline();
+        timeline.start("step1");
+        timeline.start("background");
+        Thread.sleep(5);
+        timeline.end("background");
+        Thread.sleep(10);
+        timeline.end("step1");
+
+        timeline.start("step2");
+        timeline.measure("service", "step2", () -> sleep(5));
+        timeline.end("step2");
+
+        List<String> path = timeline.getCriticalPath().stream()
+                .map(StartupTimeline.Entry::getName)
+                .collect(Collectors.toList());
+        assertEquals(2, path.size());
+        assertEquals("step1", path.get(0));
+        assertEquals("step2", path.get(1));
+
+        StartupTimeline.Entry service = timeline.getEntries().stream()
+                .filter(e -> e.getName().equals("service"))
+                .findAny().get();
+        assertTrue(service.isOnCriticalPath());
+        assertTrue(service.getDurationMs() >= 5);
+        assertFalse(timeline.getEntries().get(1).isOnCriticalPath());
+    }
+
+    @Test
+    public void testNotCompletedStep() {
+        StartupTimeline timeline = new StartupTimeline();
+        timeline.start("waiting");
+        assertFalse(timeline.getEntries().get(0).isCompleted());
+        assertTrue(timeline.getCriticalPath().isEmpty());
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException ignore) {
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.arbitration;
+
+import bisq.core.arbitration.messages.DisputeCommunicationMessage;
+
+import bisq.network.p2p.NodeAddress;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class DisputeIndexTest {
+    private ObservableList<Dispute> disputes;
+    private DisputeIndex disputeIndex;
+
+    @Before
+    public void setup() {
+        disputes = FXCollections.observableArrayList();
+        disputes.add(getDispute("trade1", 1));
+        disputeIndex = new DisputeIndex(disputes);
+    }
+
+    @Test
+    public void testFindDispute() {
+        Dispute buyerDispute = disputes.get(0);
+        Dispute sellerDispute = getDispute("trade1", 2);
+        disputes.add(sellerDispute);
+        disputes.add(getDispute("trade2", 1));
+
+        assertSame(buyerDispute, disputeIndex.findDispute("trade1", 1).get());
+        assertSame(sellerDispute, disputeIndex.findDispute("trade1", 2).get());
+        assertFalse(disputeIndex.findDispute("trade1", 3).isPresent());
+        assertFalse(disputeIndex.findDispute("trade3", 1).isPresent());
+        assertEquals(2, disputeIndex.getDisputeStream("trade1").collect(Collectors.toList()).size());
+    }
+
+    @Test
+    public void testFindMessage() {
+        Dispute dispute = disputes.get(0);
+        DisputeCommunicationMessage message = getMessage("trade1", 1);
+        assertFalse(disputeIndex.findMessage(message.getUid()).isPresent());
+
+        // Messages added after the dispute got indexed are tracked as well
+        dispute.getDisputeCommunicationMessages().add(message);
+        assertSame(message, disputeIndex.findMessage(message.getUid()).get());
+
+        dispute.getDisputeCommunicationMessages().remove(message);
+        assertFalse(disputeIndex.findMessage(message.getUid()).isPresent());
+    }
+
+    @Test
+    public void testRemoveDispute() {
+        Dispute dispute = disputes.get(0);
+        DisputeCommunicationMessage message = getMessage("trade1", 1);
+        dispute.getDisputeCommunicationMessages().add(message);
+
+        disputes.remove(dispute);
+        assertFalse(disputeIndex.findDispute("trade1", 1).isPresent());
+        assertFalse(disputeIndex.findMessage(message.getUid()).isPresent());
+
+        // A removed dispute is not observed anymore
+        DisputeCommunicationMessage laterMessage = getMessage("trade1", 1);
+        dispute.getDisputeCommunicationMessages().add(laterMessage);
+        assertFalse(disputeIndex.findMessage(laterMessage.getUid()).isPresent());
+
+        // Re-adding indexes the dispute with all its messages
+        disputes.add(dispute);
+        assertTrue(disputeIndex.findDispute("trade1", 1).isPresent());
+        assertTrue(disputeIndex.findMessage(message.getUid()).isPresent());
+        assertTrue(disputeIndex.findMessage(laterMessage.getUid()).isPresent());
+    }
+
+    private static Dispute getDispute(String tradeId, int traderId) {
+        return new Dispute(tradeId, traderId, true, true, null, 0, null, null, null, null, null, null,
+                "contractAsJson", null, null, null, false);
+    }
+
+    private static DisputeCommunicationMessage getMessage(String tradeId, int traderId) {
+        return new DisputeCommunicationMessage(tradeId, traderId, true, "message", new NodeAddress("host", 1000));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.btc.wallet;
+
+import org.bitcoinj.core.Coin;
+import org.bitcoinj.core.Context;
+import org.bitcoinj.core.ECKey;
+import org.bitcoinj.core.NetworkParameters;
+import org.bitcoinj.core.Transaction;
+import org.bitcoinj.core.TransactionConfidence;
+import org.bitcoinj.core.TransactionOutput;
+import org.bitcoinj.params.MainNetParams;
+import org.bitcoinj.wallet.CoinSelection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class BisqDefaultCoinSelectorTest {
+    private NetworkParameters params;
+    private List<TransactionOutput> candidates;
+
+    @Before
+    public void setup() {
+        params = MainNetParams.get();
+        new Context(params);
+        candidates = new ArrayList<>();
+        candidates.add(getOutput(100_000));
+        candidates.add(getOutput(60_000));
+        candidates.add(getOutput(45_000));
+    }
+
+    @Test
+    public void testBranchAndBoundLeavesLessChange() {
+        Coin target = Coin.valueOf(104_000);
+
+        // The default selection takes the largest outputs first: 100 000 + 60 000
+        CoinSelection defaultSelection = new TestCoinSelector(false).select(target, candidates);
+        assertEquals(56_000, getChange(target, defaultSelection));
+        assertEquals(2, defaultSelection.gathered.size());
+
+        // 60 000 + 45 000 leaves the least change which is not dust
+        CoinSelection branchAndBoundSelection = new TestCoinSelector(true).select(target, candidates);
+        assertEquals(1_000, getChange(target, branchAndBoundSelection));
+        assertEquals(2, branchAndBoundSelection.gathered.size());
+    }
+
+    @Test
+    public void testBranchAndBoundExactMatch() {
+        Coin target = Coin.valueOf(145_000);
+        CoinSelection selection = new TestCoinSelector(true).select(target, candidates);
+        assertEquals(0, getChange(target, selection));
+    }
+
+    @Test
+    public void testBranchAndBoundInsufficientFunds() {
+        // Falls back to the default selection which gathers all it can
+        Coin target = Coin.valueOf(300_000);
+        CoinSelection selection = new TestCoinSelector(true).select(target, candidates);
+        assertEquals(205_000, selection.valueGathered.value);
+    }
+
+    private TransactionOutput getOutput(long value) {
+        Transaction tx = new Transaction(params);
+        tx.addOutput(Coin.valueOf(value), new ECKey().toAddress(params));
+        tx.getConfidence().setConfidenceType(TransactionConfidence.ConfidenceType.BUILDING);
+        return tx.getOutput(0);
+    }
+
+    private static long getChange(Coin target, CoinSelection coinSelection) {
+        return coinSelection.valueGathered.value - target.value;
+    }
+
+    private static class TestCoinSelector extends BisqDefaultCoinSelector {
+        TestCoinSelector(boolean useBranchAndBound) {
+            setUseBranchAndBound(useBranchAndBound);
+        }
+
+        @Override
+        boolean isTxOutputSpendable(TransactionOutput output) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+package bisq.core.btc.wallet;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNull;
+
+public class BranchAndBoundCoinSelectionTest {
+
+    @Test
+    public void testExactMatch() {
+        long[] values = {50, 30, 20, 10};
+        boolean[] selection = BranchAndBoundCoinSelection.select(values, 40, 5, 1000);
+        assertArrayEquals(new boolean[]{false, true, false, true}, selection);
+    }
+
+    @Test
+    public void testMinimalChange() {
+        long[] values = {100, 60, 45};
+        // 60+45 would leave a dust change of 4, so 100+45 with a change of 44 is the best selection
+        boolean[] selection = BranchAndBoundCoinSelection.select(values, 101, 10, 1000);
+        assertArrayEquals(new boolean[]{true, false, true}, selection);
+    }
+
+    @Test
+    public void testInsufficientFunds() {
+        long[] values = {10, 5};
+        assertNull(BranchAndBoundCoinSelection.select(values, 16, 1, 1000));
+    }
+
+    @Test
+    public void testOnlyDustChangePossible() {
+        long[] values = {10, 5};
+        // 10 has change 1 and 15 has change 6, both below minChange of 7
+        assertNull(BranchAndBoundCoinSelection.select(values, 9, 7, 1000));
+    }
+}
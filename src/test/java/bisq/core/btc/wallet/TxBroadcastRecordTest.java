@@ -0,0 +1,95 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.btc.wallet;
+
+import org.bitcoinj.core.PeerAddress;
+
+import java.net.InetAddress;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TxBroadcastRecordTest {
+
+    @Test
+    public void testStateTransitions() {
+        AtomicLong now = new AtomicLong(1000);
+        TxBroadcastRecord record = new TxBroadcastRecord("txId", now::get);
+        assertEquals(TxBroadcastRecord.State.BROADCASTING, record.getState());
+        assertFalse(record.isCompleted());
+
+        now.set(21_000);
+        record.setState(TxBroadcastRecord.State.TIMED_OUT);
+        assertEquals(21_000, record.getLastStateChangeDate());
+        assertFalse(record.isCompleted());
+
+        record.setState(TxBroadcastRecord.State.SUCCEEDED);
+        assertFalse(record.isCompleted());
+        assertNull(record.getErrorMessage());
+
+        record.setState(TxBroadcastRecord.State.CONFIRMED);
+        assertTrue(record.isCompleted());
+    }
+
+    @Test
+    public void testSetFailed() {
+        TxBroadcastRecord record = new TxBroadcastRecord("txId", () -> 0);
+        record.setFailed("error");
+        assertEquals(TxBroadcastRecord.State.FAILED, record.getState());
+        assertEquals("error", record.getErrorMessage());
+        assertTrue(record.isCompleted());
+    }
+
+    @Test
+    public void testAttempts() {
+        TxBroadcastRecord record = new TxBroadcastRecord("txId", () -> 0);
+        // The first attempt is counted at creation
+        assertEquals(1, record.getAttempts());
+        record.onBroadcastAttempt();
+        assertEquals(2, record.getAttempts());
+    }
+
+    @Test
+    public void testDelayByPeer() throws Exception {
+        AtomicLong now = new AtomicLong(1000);
+        TxBroadcastRecord record = new TxBroadcastRecord("txId", now::get);
+        PeerAddress peer1 = new PeerAddress(InetAddress.getByName("127.0.0.1"), 8333);
+        PeerAddress peer2 = new PeerAddress(InetAddress.getByName("127.0.0.2"), 8333);
+
+        now.set(1500);
+        record.onPeerSeen(peer1);
+        // A peer announcing the tx again does not change its delay
+        now.set(1700);
+        record.onPeerSeen(peer1);
+        assertEquals(500, (long) record.getDelayByPeer().get(peer1));
+
+        // The delay is measured from the last attempt
+        now.set(60_000);
+        record.onBroadcastAttempt();
+        now.set(60_300);
+        record.onPeerSeen(peer2);
+        assertEquals(300, (long) record.getDelayByPeer().get(peer2));
+        assertEquals(2, record.getNumSeenPeers());
+    }
+}
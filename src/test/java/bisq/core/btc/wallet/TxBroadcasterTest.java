@@ -0,0 +1,90 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.btc.wallet;
+
+import org.bitcoinj.core.TransactionConfidence;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static bisq.core.btc.wallet.TxBroadcaster.RebroadcastDecision.GIVE_UP;
+import static bisq.core.btc.wallet.TxBroadcaster.RebroadcastDecision.NONE;
+import static bisq.core.btc.wallet.TxBroadcaster.RebroadcastDecision.REBROADCAST;
+import static org.bitcoinj.core.TransactionConfidence.ConfidenceType.BUILDING;
+import static org.bitcoinj.core.TransactionConfidence.ConfidenceType.PENDING;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TxBroadcasterTest {
+
+    @Test
+    public void testRebroadcastDecision() {
+        // Only a timed out broadcast which no peer has announced gets rebroadcasted
+        assertEquals(REBROADCAST, getDecision(TxBroadcastRecord.State.TIMED_OUT, PENDING, 0, 1));
+        assertEquals(REBROADCAST, getDecision(TxBroadcastRecord.State.REBROADCASTING, PENDING, 0, 2));
+
+        assertEquals(NONE, getDecision(TxBroadcastRecord.State.BROADCASTING, PENDING, 0, 1));
+        assertEquals(NONE, getDecision(TxBroadcastRecord.State.SUCCEEDED, PENDING, 0, 1));
+        assertEquals(NONE, getDecision(TxBroadcastRecord.State.FAILED, PENDING, 0, 1));
+        assertEquals(NONE, getDecision(TxBroadcastRecord.State.TIMED_OUT, PENDING, 1, 1));
+        assertEquals(NONE, getDecision(TxBroadcastRecord.State.TIMED_OUT, BUILDING, 0, 1));
+    }
+
+    @Test
+    public void testGiveUpAfterMaxAttempts() {
+        int max = TxBroadcaster.MAX_BROADCAST_ATTEMPTS;
+        assertEquals(REBROADCAST, getDecision(TxBroadcastRecord.State.REBROADCASTING, PENDING, 0, max - 1));
+        assertEquals(GIVE_UP, getDecision(TxBroadcastRecord.State.REBROADCASTING, PENDING, 0, max));
+    }
+
+    @Test
+    public void testRemoveOutdatedRecords() {
+        Map<String, TxBroadcastRecord> recordMap = new HashMap<>();
+        TxBroadcastRecord oldRecord = new TxBroadcastRecord("old", () -> 0);
+        TxBroadcastRecord failedRecord = new TxBroadcastRecord("failed", () -> 1000);
+        failedRecord.setFailed("error");
+        TxBroadcastRecord confirmedRecord = new TxBroadcastRecord("confirmed", () -> 1000);
+        confirmedRecord.setState(TxBroadcastRecord.State.CONFIRMED);
+        recordMap.put(oldRecord.getTxId(), oldRecord);
+        recordMap.put(failedRecord.getTxId(), failedRecord);
+        recordMap.put(confirmedRecord.getTxId(), confirmedRecord);
+
+        // Completed records are kept until they are outdated
+        List<TxBroadcastRecord> removed = TxBroadcaster.removeOutdatedRecords(recordMap,
+                TxBroadcaster.MAX_RECORD_AGE_MS + 1);
+        assertEquals(Collections.singletonList(oldRecord), removed);
+        assertFalse(recordMap.containsKey("old"));
+        assertTrue(recordMap.containsKey("failed"));
+        assertTrue(recordMap.containsKey("confirmed"));
+
+        TxBroadcaster.removeOutdatedRecords(recordMap, TxBroadcaster.MAX_RECORD_AGE_MS + 1001);
+        assertTrue(recordMap.isEmpty());
+    }
+
+    private static TxBroadcaster.RebroadcastDecision getDecision(TxBroadcastRecord.State state,
+                                                                 TransactionConfidence.ConfidenceType confidenceType,
+                                                                 int numBroadcastPeers,
+                                                                 int attempts) {
+        return TxBroadcaster.getRebroadcastDecision(state, confidenceType, numBroadcastPeers, attempts);
+    }
+}
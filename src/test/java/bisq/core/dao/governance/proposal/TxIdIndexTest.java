@@ -0,0 +1,49 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.governance.proposal;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TxIdIndexTest {
+
+    @Test
+    public void testContains() {
+        // The first char is used as txId
+        ObservableList<String> list = FXCollections.observableArrayList("a1");
+        TxIdIndex<String> index = new TxIdIndex<>(list, e -> e.substring(0, 1));
+        assertTrue(index.contains("a1"));
+        // Same txId but not equal
+        assertFalse(index.contains("a2"));
+
+        list.add("a2");
+        assertTrue(index.contains("a2"));
+
+        list.remove("a1");
+        assertFalse(index.contains("a1"));
+        assertTrue(index.contains("a2"));
+
+        list.clear();
+        assertFalse(index.contains("a2"));
+    }
+}
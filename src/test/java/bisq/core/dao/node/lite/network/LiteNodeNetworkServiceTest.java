@@ -0,0 +1,245 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.node.lite.network;
+
+import bisq.core.dao.node.messages.GetBlocksResponse;
+import bisq.core.dao.state.blockchain.RawBlock;
+
+import bisq.network.p2p.NodeAddress;
+import bisq.network.p2p.network.Connection;
+import bisq.network.p2p.network.NetworkNode;
+import bisq.network.p2p.peers.PeerManager;
+import bisq.network.p2p.seed.SeedNodeRepository;
+
+import bisq.common.FrameRateTimer;
+import bisq.common.Timer;
+import bisq.common.UserThread;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({NetworkNode.class, PeerManager.class, Connection.class})
+public class LiteNodeNetworkServiceTest {
+    private final NodeAddress seedNode1 = new NodeAddress("seedNode1.onion", 8000);
+    private final NodeAddress seedNode2 = new NodeAddress("seedNode2.onion", 8000);
+
+    private PeerManager peerManager;
+    private LiteNodeNetworkService.Listener listener;
+    private LiteNodeNetworkService liteNodeNetworkService;
+    private List<Request> requests;
+
+    @Before
+    public void setup() {
+        UserThread.setTimerClass(ManualTimer.class);
+        ManualTimer.timers.clear();
+
+        NetworkNode networkNode = mock(NetworkNode.class);
+        peerManager = mock(PeerManager.class);
+        Set<Connection> connections = new LinkedHashSet<>();
+        connections.add(createConnection(seedNode1));
+        connections.add(createConnection(seedNode2));
+        when(networkNode.getConfirmedConnections()).thenReturn(connections);
+        when(peerManager.isSeedNode(any(Connection.class))).thenReturn(true);
+
+        requests = new ArrayList<>();
+        liteNodeNetworkService = new LiteNodeNetworkService(networkNode, peerManager, mock(SeedNodeRepository.class)) {
+            @Override
+            RequestBlocksHandler createRequestBlocksHandler(NodeAddress peersNodeAddress,
+                                                            int startBlockHeight,
+                                                            RequestBlocksHandler.Listener listener) {
+                requests.add(new Request(peersNodeAddress, startBlockHeight, listener));
+                return mock(RequestBlocksHandler.class);
+            }
+        };
+        listener = mock(LiteNodeNetworkService.Listener.class);
+        liteNodeNetworkService.addListener(listener);
+    }
+
+    @After
+    public void tearDown() {
+        UserThread.setTimerClass(FrameRateTimer.class);
+    }
+
+    @Test
+    public void testHedgedRequest() {
+        liteNodeNetworkService.requestBlocks(100);
+        assertEquals(1, requests.size());
+        assertEquals(seedNode1, requests.get(0).nodeAddress);
+
+        // No response from the first seed node within the hedge delay
+        ManualTimer.fireActiveTimers();
+        assertEquals(2, requests.size());
+        assertEquals(seedNode2, requests.get(1).nodeAddress);
+        assertEquals(100, requests.get(1).startBlockHeight);
+
+        requests.get(1).listener.onComplete(createResponse(100, "hash100", "hash101"));
+        verify(listener, times(1)).onRequestedBlocksReceived(any());
+
+        // The late response of the first seed node is only used for the consistency check
+        requests.get(0).listener.onComplete(createResponse(100, "hash100", "hash101"));
+        verify(listener, times(1)).onRequestedBlocksReceived(any());
+        assertEquals(0, ManualTimer.getActiveTimers().size());
+    }
+
+    @Test
+    public void testFaultOfHedgedRequestAfterResponse() {
+        liteNodeNetworkService.requestBlocks(100);
+        ManualTimer.fireActiveTimers();
+        requests.get(1).listener.onComplete(createResponse(100, "hash100"));
+
+        requests.get(0).listener.onFault("timeout", null);
+
+        verify(peerManager, never()).handleConnectionFault(any(NodeAddress.class));
+        verify(listener, never()).onFault(any(), any());
+        // No retry
+        assertEquals(0, ManualTimer.getActiveTimers().size());
+    }
+
+    @Test
+    public void testFaultBeforeHedgeDelay() {
+        liteNodeNetworkService.requestBlocks(100);
+        requests.get(0).listener.onFault("connection lost", null);
+
+        verify(peerManager, times(1)).handleConnectionFault(seedNode1);
+        verify(listener, times(1)).onFault(any(), any());
+
+        // Only the retry timer is left, the hedge timer got stopped
+        assertEquals(1, ManualTimer.getActiveTimers().size());
+        ManualTimer.fireActiveTimers();
+        assertEquals(1, requests.size());
+        verify(listener, times(1)).onNoSeedNodeAvailable();
+    }
+
+    @Test
+    public void testFastestSeedNodeIsPreferred() {
+        liteNodeNetworkService.requestBlocks(100);
+        assertEquals(seedNode1, requests.get(0).nodeAddress);
+        requests.get(0).listener.onFault("timeout", null);
+
+        // The failed seed node gets ranked behind the other one
+        liteNodeNetworkService.requestBlocks(101);
+        assertEquals(seedNode2, requests.get(1).nodeAddress);
+        requests.get(1).listener.onComplete(createResponse(101, "hash101"));
+
+        liteNodeNetworkService.requestBlocks(102);
+        assertEquals(seedNode2, requests.get(2).nodeAddress);
+    }
+
+    @Test
+    public void testGetFirstInconsistentBlockHeight() {
+        ImmutableMap<Integer, String> firstBlockHashes = ImmutableMap.of(100, "hash100", 101, "hash101", 102, "hash102");
+
+        assertEquals(Optional.empty(), LiteNodeNetworkService.getFirstInconsistentBlockHeight(firstBlockHashes,
+                ImmutableMap.of(100, "hash100", 101, "hash101", 102, "hash102")));
+        // Heights only one seed node has delivered are not compared
+        assertEquals(Optional.empty(), LiteNodeNetworkService.getFirstInconsistentBlockHeight(firstBlockHashes,
+                ImmutableMap.of(101, "hash101", 103, "hash103")));
+        assertEquals(Optional.of(101), LiteNodeNetworkService.getFirstInconsistentBlockHeight(firstBlockHashes,
+                ImmutableMap.of(100, "hash100", 101, "otherHash101", 102, "otherHash102")));
+    }
+
+    private static Connection createConnection(NodeAddress nodeAddress) {
+        Connection connection = mock(Connection.class);
+        when(connection.getPeersNodeAddressOptional()).thenReturn(Optional.of(nodeAddress));
+        return connection;
+    }
+
+    private static GetBlocksResponse createResponse(int startBlockHeight, String... blockHashes) {
+        List<RawBlock> blocks = new ArrayList<>();
+        for (int i = 0; i < blockHashes.length; i++) {
+            int height = startBlockHeight + i;
+            String previousBlockHash = i == 0 ? "" : blockHashes[i - 1];
+            blocks.add(new RawBlock(height, height * 600L, blockHashes[i], previousBlockHash, ImmutableList.of()));
+        }
+        return new GetBlocksResponse(blocks, 0);
+    }
+
+    private static class Request {
+        private final NodeAddress nodeAddress;
+        private final int startBlockHeight;
+        private final RequestBlocksHandler.Listener listener;
+
+        Request(NodeAddress nodeAddress, int startBlockHeight, RequestBlocksHandler.Listener listener) {
+            this.nodeAddress = nodeAddress;
+            this.startBlockHeight = startBlockHeight;
+            this.listener = listener;
+        }
+    }
+
+    // Created by UserThread, the test decides when the scheduled actions run
+    public static class ManualTimer implements Timer {
+        private static final List<ManualTimer> timers = new ArrayList<>();
+
+        private Runnable action;
+        private boolean done;
+
+        static List<ManualTimer> getActiveTimers() {
+            return timers.stream().filter(timer -> !timer.done).collect(Collectors.toList());
+        }
+
+        static void fireActiveTimers() {
+            getActiveTimers().forEach(timer -> {
+                timer.done = true;
+                timer.action.run();
+            });
+        }
+
+        @Override
+        public Timer runLater(Duration delay, Runnable action) {
+            this.action = action;
+            timers.add(this);
+            return this;
+        }
+
+        @Override
+        public Timer runPeriodically(Duration interval, Runnable runnable) {
+            return runLater(interval, runnable);
+        }
+
+        @Override
+        public void stop() {
+            done = true;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.node.parser;
+
+import bisq.core.dao.node.parser.exceptions.BlockNotConnectingException;
+import bisq.core.dao.state.BsqStateService;
+import bisq.core.dao.state.GenesisTxInfo;
+import bisq.core.dao.state.blockchain.Block;
+import bisq.core.dao.state.blockchain.RawBlock;
+import bisq.core.dao.state.blockchain.RawTx;
+import bisq.core.dao.state.blockchain.RawTxOutput;
+import bisq.core.dao.state.blockchain.Tx;
+import bisq.core.dao.state.blockchain.TxInput;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import static bisq.core.dao.node.parser.BsqChainGenerator.GENESIS_BLOCK_HEIGHT;
+import static bisq.core.dao.node.parser.BsqChainGenerator.GENESIS_TX_ID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BlockParserTest {
+    private static final long BSQ_VALUE = 1_000_000;
+    private static final long BTC_VALUE = 10_000_000;
+
+    // The BSQ txs of the first block spend outputs created earlier in the same block, the BSQ txs of the second
+    // block spend outputs of the first block. All other txs are plain BTC txs.
+    @Test
+    public void testBsqTxCandidatesWithSpendsInSameBlock() throws BlockNotConnectingException {
+        int height = GENESIS_BLOCK_HEIGHT;
+        List<RawTx> rawTxs = new ArrayList<>();
+        long totalSupply = GenesisTxInfo.GENESIS_TOTAL_SUPPLY.getValue();
+        rawTxs.add(new RawTx(GENESIS_TX_ID, height, getBlockHash(height), height * 600L,
+                ImmutableList.of(new TxInput("btcGenesisFunding", 0, null)),
+                ImmutableList.of(new RawTxOutput(0, BSQ_VALUE, GENESIS_TX_ID, null, null, null, height),
+                        new RawTxOutput(1, totalSupply - BSQ_VALUE, GENESIS_TX_ID, null, null, null, height))));
+        addBtcTxs(rawTxs, height, 60);
+        rawTxs.add(getBsqTx("bsqTx1", height, GENESIS_TX_ID, 0, BSQ_VALUE));
+        addBtcTxs(rawTxs, height, 50);
+        rawTxs.add(getBsqTx("bsqTx2", height, "bsqTx1", 0, BSQ_VALUE));
+        // Spends the BTC output of a BSQ tx of the same block, so it is a candidate but not a BSQ tx
+        rawTxs.add(getBtcTx("btcTxSpendingBsqTx1", height, "bsqTx1", 1));
+        RawBlock rawBlock1 = getRawBlock(height, rawTxs);
+
+        height++;
+        rawTxs = new ArrayList<>();
+        addBtcTxs(rawTxs, height, 40);
+        rawTxs.add(getBsqTx("bsqTx3", height, GENESIS_TX_ID, 1, totalSupply - BSQ_VALUE));
+        addBtcTxs(rawTxs, height, 70);
+        rawTxs.add(getBsqTx("bsqTx4", height, "bsqTx2", 0, BSQ_VALUE));
+        RawBlock rawBlock2 = getRawBlock(height, rawTxs);
+
+        List<RawBlock> rawBlocks = Arrays.asList(rawBlock1, rawBlock2);
+        assertTrue(rawBlock1.getRawTxs().size() >= BlockParser.MIN_TXS_FOR_PARALLEL_CHECK);
+        assertTrue(rawBlock2.getRawTxs().size() >= BlockParser.MIN_TXS_FOR_PARALLEL_CHECK);
+
+        BsqStateService withPrefilter = parseChain(rawBlocks, BlockParser.MIN_TXS_FOR_PARALLEL_CHECK);
+        BsqStateService withoutPrefilter = parseChain(rawBlocks, Integer.MAX_VALUE);
+        assertSameState(withoutPrefilter, withPrefilter);
+
+        assertEquals(Arrays.asList(GENESIS_TX_ID, "bsqTx1", "bsqTx2"), getTxIds(withPrefilter.getBlocks().get(0)));
+        assertEquals(Arrays.asList("bsqTx3", "bsqTx4"), getTxIds(withPrefilter.getBlocks().get(1)));
+        assertEquals(2, withPrefilter.getUnspentTxOutputMap().size());
+    }
+
+    @Test
+    public void testBsqTxCandidatesOnGeneratedChain() throws BlockNotConnectingException {
+        List<RawBlock> rawBlocks = new BsqChainGenerator(10, 150, 0.3, 100, 5, 1).generate();
+
+        BsqStateService withPrefilter = parseChain(rawBlocks, BlockParser.MIN_TXS_FOR_PARALLEL_CHECK);
+        BsqStateService withoutPrefilter = parseChain(rawBlocks, Integer.MAX_VALUE);
+        assertSameState(withoutPrefilter, withPrefilter);
+        assertTrue(withPrefilter.getTxStream().count() > 1);
+    }
+
+    private static BsqStateService parseChain(List<RawBlock> rawBlocks, int minTxsForParallelCheck)
+            throws BlockNotConnectingException {
+        BsqStateService bsqStateService = BsqChainGenerator.createBsqStateService();
+        BlockParser blockParser = BsqChainGenerator.createBlockParser(bsqStateService, minTxsForParallelCheck);
+        for (RawBlock rawBlock : rawBlocks) {
+            blockParser.parseBlock(rawBlock);
+        }
+        return bsqStateService;
+    }
+
+    private static void assertSameState(BsqStateService expected, BsqStateService actual) {
+        assertEquals(expected.getBlocks(), actual.getBlocks());
+        assertEquals(expected.getUnspentTxOutputMap(), actual.getUnspentTxOutputMap());
+        assertEquals(expected.getTxOutputStream().map(expected::getSpentInfo).collect(Collectors.toList()),
+                actual.getTxOutputStream().map(actual::getSpentInfo).collect(Collectors.toList()));
+    }
+
+    private static List<String> getTxIds(Block block) {
+        return block.getTxs().stream().map(Tx::getId).collect(Collectors.toList());
+    }
+
+    private static RawBlock getRawBlock(int height, List<RawTx> rawTxs) {
+        String previousBlockHash = height == GENESIS_BLOCK_HEIGHT ? "" : getBlockHash(height - 1);
+        return new RawBlock(height, height * 600L, getBlockHash(height), previousBlockHash,
+                ImmutableList.copyOf(rawTxs));
+    }
+
+    // Spends a BSQ output and a BTC output for the miner fee. The whole BSQ value goes to the first output.
+    private static RawTx getBsqTx(String txId, int height, String connectedTxId, int connectedIndex, long bsqValue) {
+        return new RawTx(txId, height, getBlockHash(height), height * 600L,
+                ImmutableList.of(new TxInput(connectedTxId, connectedIndex, null),
+                        new TxInput("btcFunding-" + txId, 0, null)),
+                ImmutableList.of(new RawTxOutput(0, bsqValue, txId, null, null, null, height),
+                        new RawTxOutput(1, BTC_VALUE, txId, null, null, null, height)));
+    }
+
+    private static RawTx getBtcTx(String txId, int height, String connectedTxId, int connectedIndex) {
+        return new RawTx(txId, height, getBlockHash(height), height * 600L,
+                ImmutableList.of(new TxInput(connectedTxId, connectedIndex, null)),
+                ImmutableList.of(new RawTxOutput(0, BTC_VALUE, txId, null, null, null, height)));
+    }
+
+    private static void addBtcTxs(List<RawTx> rawTxs, int height, int numTxs) {
+        for (int i = 0; i < numTxs; i++) {
+            String txId = "btcTx-" + height + "-" + rawTxs.size();
+            rawTxs.add(getBtcTx(txId, height, "btcFunding-" + txId, 0));
+        }
+    }
+
+    private static String getBlockHash(int height) {
+        return "block-" + height;
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.node.parser;
+
+import bisq.core.dao.node.parser.exceptions.BlockNotConnectingException;
+import bisq.core.dao.state.BsqState;
+import bisq.core.dao.state.BsqStateService;
+import bisq.core.dao.state.GenesisTxInfo;
+import bisq.core.dao.state.blockchain.RawBlock;
+import bisq.core.dao.state.blockchain.RawTx;
+import bisq.core.dao.state.blockchain.RawTxOutput;
+import bisq.core.dao.state.blockchain.TxInput;
+import bisq.core.dao.state.period.PeriodService;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Creates a synthetic chain for the DAO benchmarks and parser tests. The first block contains the genesis tx which distributes the
+ * genesis supply to numGenesisOutputs outputs. Each following block contains txsPerBlock txs of which bsqShare are
+ * BSQ txs spending one unspent BSQ output, the others are plain BTC txs. Every burnFeeInterval-th BSQ tx burns a
+ * fee as proposal or blind vote txs do.
+ * The chain only depends on the parameters and the seed, so runs with the same parameters are comparable.
+ */
+public class BsqChainGenerator {
+    public static final String GENESIS_TX_ID = "genesisTxId";
+    public static final int GENESIS_BLOCK_HEIGHT = 100;
+
+    private static final long BTC_OUTPUT_VALUE = 10_000_000;
+    private static final long BURNT_FEE = 200;
+
+    private final int numBlocks;
+    private final int txsPerBlock;
+    private final double bsqShare;
+    private final int numGenesisOutputs;
+    private final int burnFeeInterval;
+    private final Random random;
+
+    private int bsqTxCounter;
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Static
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public static BsqStateService createBsqStateService() {
+        return new BsqStateService(new BsqState(), new GenesisTxInfo(GENESIS_TX_ID, GENESIS_BLOCK_HEIGHT));
+    }
+
+    public static BlockParser createBlockParser(BsqStateService bsqStateService) {
+        return createBlockParser(bsqStateService, BlockParser.MIN_TXS_FOR_PARALLEL_CHECK);
+    }
+
+    // We wire the parser manually so we don't need the whole Guice module with the P2P network
+    static BlockParser createBlockParser(BsqStateService bsqStateService, int minTxsForParallelCheck) {
+        PeriodService periodService = new PeriodService(bsqStateService);
+        OpReturnParser opReturnParser = new OpReturnParser(new OpReturnProposalParser(periodService, bsqStateService),
+                new OpReturnCompReqParser(periodService, bsqStateService),
+                new OpReturnBlindVoteParser(periodService, bsqStateService),
+                new OpReturnVoteRevealParser(periodService),
+                new OpReturnLockupParser());
+        TxParser txParser = new TxParser(new TxInputParser(bsqStateService),
+                new TxOutputParser(bsqStateService, opReturnParser));
+        return new BlockParser(txParser, bsqStateService, minTxsForParallelCheck);
+    }
+
+    public static BsqStateService parseChain(List<RawBlock> rawBlocks) throws BlockNotConnectingException {
+        BsqStateService bsqStateService = createBsqStateService();
+        BlockParser blockParser = createBlockParser(bsqStateService);
+        for (RawBlock rawBlock : rawBlocks) {
+            blockParser.parseBlock(rawBlock);
+        }
+        return bsqStateService;
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Constructor
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public BsqChainGenerator(int numBlocks, int txsPerBlock, double bsqShare) {
+        this(numBlocks, txsPerBlock, bsqShare, 1000, 10, 42);
+    }
+
+    public BsqChainGenerator(int numBlocks, int txsPerBlock, double bsqShare, int numGenesisOutputs,
+                             int burnFeeInterval, long seed) {
+        if (numBlocks < 1 || txsPerBlock < 1 || bsqShare < 0 || bsqShare > 1 || numGenesisOutputs < 1 ||
+                burnFeeInterval < 1)
+            throw new IllegalArgumentException("Invalid chain parameters");
+
+        this.numBlocks = numBlocks;
+        this.txsPerBlock = txsPerBlock;
+        this.bsqShare = bsqShare;
+        this.numGenesisOutputs = numGenesisOutputs;
+        this.burnFeeInterval = burnFeeInterval;
+        this.random = new Random(seed);
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // API
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public List<RawBlock> generate() {
+        List<RawBlock> rawBlocks = new ArrayList<>(numBlocks);
+        // Unspent BSQ outputs as txId and value, the outputs of a block are spendable from the next block on
+        Deque<BsqOutput> unspentBsqOutputs = new ArrayDeque<>();
+        int height = GENESIS_BLOCK_HEIGHT;
+        String previousBlockHash = "";
+        for (int i = 0; i < numBlocks; i++, height++) {
+            String blockHash = getBlockHash(height);
+            List<RawTx> rawTxs = new ArrayList<>(txsPerBlock + 1);
+            List<BsqOutput> newBsqOutputs = new ArrayList<>();
+            if (i == 0)
+                rawTxs.add(getGenesisTx(height, blockHash, newBsqOutputs));
+
+            for (int j = 0; j < txsPerBlock; j++) {
+                String txId = "tx-" + height + "-" + j;
+                if (random.nextDouble() < bsqShare && !unspentBsqOutputs.isEmpty())
+                    rawTxs.add(getBsqTx(txId, height, blockHash, unspentBsqOutputs.poll(), newBsqOutputs));
+                else
+                    rawTxs.add(getBtcTx(txId, height, blockHash));
+            }
+
+            unspentBsqOutputs.addAll(newBsqOutputs);
+            rawBlocks.add(new RawBlock(height, height * 600L, blockHash, previousBlockHash, ImmutableList.copyOf(rawTxs)));
+            previousBlockHash = blockHash;
+        }
+        return rawBlocks;
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private RawTx getGenesisTx(int height, String blockHash, List<BsqOutput> newBsqOutputs) {
+        long totalSupply = GenesisTxInfo.GENESIS_TOTAL_SUPPLY.getValue();
+        long value = totalSupply / numGenesisOutputs;
+        List<RawTxOutput> outputs = new ArrayList<>(numGenesisOutputs);
+        for (int i = 0; i < numGenesisOutputs; i++) {
+            // The last output takes the remainder as the genesis tx must distribute the whole supply
+            long outputValue = i == numGenesisOutputs - 1 ? totalSupply - value * i : value;
+            outputs.add(new RawTxOutput(i, outputValue, GENESIS_TX_ID, null, null, null, height));
+            newBsqOutputs.add(new BsqOutput(GENESIS_TX_ID, i, outputValue));
+        }
+        return new RawTx(GENESIS_TX_ID, height, blockHash, height * 600L,
+                ImmutableList.of(new TxInput("btc-genesis-funding", 0, null)),
+                ImmutableList.copyOf(outputs));
+    }
+
+    // Spends a BSQ output and a BTC output for the miner fee. The BSQ goes to the first output, reduced by the burnt
+    // fee if any. The BTC output is larger than the remaining BSQ so it is a BTC output.
+    private RawTx getBsqTx(String txId, int height, String blockHash, BsqOutput bsqOutput,
+                           List<BsqOutput> newBsqOutputs) {
+        long burntFee = ++bsqTxCounter % burnFeeInterval == 0 && bsqOutput.value > BURNT_FEE ? BURNT_FEE : 0;
+        long bsqValue = bsqOutput.value - burntFee;
+        newBsqOutputs.add(new BsqOutput(txId, 0, bsqValue));
+        return new RawTx(txId, height, blockHash, height * 600L,
+                ImmutableList.of(new TxInput(bsqOutput.txId, bsqOutput.index, null),
+                        new TxInput("btc-" + txId, 0, null)),
+                ImmutableList.of(new RawTxOutput(0, bsqValue, txId, null, null, null, height),
+                        new RawTxOutput(1, BTC_OUTPUT_VALUE, txId, null, null, null, height)));
+    }
+
+    private RawTx getBtcTx(String txId, int height, String blockHash) {
+        return new RawTx(txId, height, blockHash, height * 600L,
+                ImmutableList.of(new TxInput("btc-" + txId, 0, null)),
+                ImmutableList.of(new RawTxOutput(0, BTC_OUTPUT_VALUE, txId, null, null, null, height)));
+    }
+
+    private static String getBlockHash(int height) {
+        return "block-" + height;
+    }
+
+    private static class BsqOutput {
+        private final String txId;
+        private final int index;
+        private final long value;
+
+        BsqOutput(String txId, int index, long value) {
+            this.txId = txId;
+            this.index = index;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.state;
+
+import bisq.core.dao.state.blockchain.Block;
+import bisq.core.dao.state.blockchain.RawTx;
+import bisq.core.dao.state.blockchain.RawTxOutput;
+import bisq.core.dao.state.blockchain.TempTx;
+import bisq.core.dao.state.blockchain.TempTxOutput;
+import bisq.core.dao.state.blockchain.Tx;
+import bisq.core.dao.state.blockchain.TxInput;
+import bisq.core.dao.state.blockchain.TxOutputType;
+import bisq.core.dao.state.governance.Issuance;
+
+import bisq.common.app.DevEnv;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class BsqStateAggregatesTest {
+    private static final int GENESIS_BLOCK_HEIGHT = 100;
+
+    private boolean wasDevMode;
+
+    @Before
+    public void setup() {
+        // In dev mode each parsed block is verified against a full recompute of the aggregates
+        wasDevMode = DevEnv.isDevMode();
+        DevEnv.setDevMode(true);
+    }
+
+    @After
+    public void tearDown() {
+        DevEnv.setDevMode(wasDevMode);
+    }
+
+    @Test
+    public void testApplyBlock() {
+        Tx burntFeeTx = createTx("burntFeeTx", 101, 100, TxOutputType.BSQ_OUTPUT);
+        Tx lockupTx = createTx("lockupTx", 101, 0, TxOutputType.LOCKUP, TxOutputType.LOCKUP_OP_RETURN_OUTPUT);
+        Tx unlockTx = createTx("unlockTx", 101, 0, TxOutputType.UNLOCK);
+        Tx compReqTx = createTx("compReqTx", 101, 50,
+                TxOutputType.ISSUANCE_CANDIDATE_OUTPUT, TxOutputType.BTC_OUTPUT);
+        Block block = createBlock(101, burntFeeTx, lockupTx, unlockTx, compReqTx);
+
+        BsqStateAggregates aggregates = new BsqStateAggregates();
+        aggregates.applyBlock(block);
+
+        assertEquals(150, aggregates.getTotalBurntFee());
+        assertEquals(Arrays.asList(burntFeeTx, compReqTx), aggregates.getBurntFeeTxs());
+        assertEquals(1000, aggregates.getTotalAmountOfLockupTxOutputs());
+        assertEquals(Collections.singletonList(lockupTx.getTxOutputs().get(0)), aggregates.getLockupTxOutputs());
+        assertEquals(Collections.singletonList(unlockTx.getTxOutputs().get(0)), aggregates.getUnlockTxOutputs());
+        assertEquals(Collections.singletonList(compReqTx.getTxOutputs().get(0)),
+                aggregates.getIssuanceCandidateTxOutputs());
+        assertEquals(0, aggregates.getTotalIssuedAmount());
+
+        aggregates.applyBlock(createBlock(102, createTx("lockupTx2", 102, 0, TxOutputType.LOCKUP)));
+        assertEquals(2000, aggregates.getTotalAmountOfLockupTxOutputs());
+        assertEquals(2, aggregates.getLockupTxOutputs().size());
+        assertEquals(150, aggregates.getTotalBurntFee());
+    }
+
+    @Test
+    public void testApplyIssuance() {
+        BsqStateAggregates aggregates = new BsqStateAggregates();
+        aggregates.applyBlock(createBlock(101,
+                createTx("compReqTx1", 101, 0, TxOutputType.ISSUANCE_CANDIDATE_OUTPUT, TxOutputType.BTC_OUTPUT),
+                createTx("compReqTx2", 101, 0, TxOutputType.BTC_OUTPUT, TxOutputType.ISSUANCE_CANDIDATE_OUTPUT)));
+
+        aggregates.applyIssuance("compReqTx2");
+        assertEquals(2000, aggregates.getTotalIssuedAmount());
+
+        // An issuance without a matching candidate output does not change the total
+        aggregates.applyIssuance("unknownTx");
+        assertEquals(2000, aggregates.getTotalIssuedAmount());
+
+        aggregates.applyIssuance("compReqTx1");
+        assertEquals(3000, aggregates.getTotalIssuedAmount());
+    }
+
+    @Test
+    public void testRepeatedAddIssuance() {
+        BsqStateService bsqStateService = createBsqStateService();
+        addBlock(bsqStateService, createBlock(101,
+                createTx("compReqTx", 101, 0, TxOutputType.ISSUANCE_CANDIDATE_OUTPUT, TxOutputType.BTC_OUTPUT)));
+
+        Issuance issuance = new Issuance("compReqTx", 101, 1000, "pubKey");
+        bsqStateService.addIssuance(issuance);
+        bsqStateService.addIssuance(issuance);
+
+        assertEquals(1, bsqStateService.getIssuanceSet().size());
+        assertEquals(1000, bsqStateService.getTotalIssuedAmount());
+    }
+
+    @Test
+    public void testRecomputeAfterApplySnapshot() {
+        BsqStateService bsqStateService = createBsqStateService();
+        addBlock(bsqStateService, createBlock(101,
+                createTx("burntFeeTx", 101, 100, TxOutputType.BSQ_OUTPUT),
+                createTx("lockupTx", 101, 0, TxOutputType.LOCKUP, TxOutputType.LOCKUP_OP_RETURN_OUTPUT),
+                createTx("compReqTx", 101, 0, TxOutputType.ISSUANCE_CANDIDATE_OUTPUT, TxOutputType.BTC_OUTPUT)));
+        addBlock(bsqStateService, createBlock(102,
+                createTx("unlockTx", 102, 0, TxOutputType.UNLOCK),
+                createTx("burntFeeTx2", 102, 30, TxOutputType.BSQ_OUTPUT)));
+        bsqStateService.addIssuance(new Issuance("compReqTx", 102, 1000, "pubKey"));
+
+        BsqStateService fromSnapshot = createBsqStateService();
+        // A stale block must not survive the snapshot
+        addBlock(fromSnapshot, createBlock(101, createTx("staleTx", 101, 500, TxOutputType.LOCKUP)));
+        fromSnapshot.applySnapshot(bsqStateService.getClone());
+        assertSameAggregates(bsqStateService, fromSnapshot);
+
+        // Applying the same snapshot again does not count anything twice
+        fromSnapshot.applySnapshot(bsqStateService.getClone());
+        assertSameAggregates(bsqStateService, fromSnapshot);
+        assertEquals(130, fromSnapshot.getTotalBurntFee());
+        assertEquals(1000, fromSnapshot.getTotalAmountOfLockupTxOutputs());
+        assertEquals(1000, fromSnapshot.getTotalIssuedAmount());
+    }
+
+    private static void assertSameAggregates(BsqStateService expected, BsqStateService actual) {
+        assertEquals(expected.getTotalBurntFee(), actual.getTotalBurntFee());
+        assertEquals(expected.getBurntFeeTxs(), actual.getBurntFeeTxs());
+        assertEquals(expected.getTotalAmountOfLockupTxOutputs(), actual.getTotalAmountOfLockupTxOutputs());
+        assertEquals(expected.getLockupTxOutputs(), actual.getLockupTxOutputs());
+        assertEquals(expected.getUnlockTxOutputs(), actual.getUnlockTxOutputs());
+        assertEquals(expected.getIssuanceCandidateTxOutputs(), actual.getIssuanceCandidateTxOutputs());
+        assertEquals(expected.getTotalIssuedAmount(), actual.getTotalIssuedAmount());
+    }
+
+    private static BsqStateService createBsqStateService() {
+        BsqStateService bsqStateService = new BsqStateService(new BsqState(),
+                new GenesisTxInfo("genesisTxId", GENESIS_BLOCK_HEIGHT));
+        bsqStateService.start();
+        return bsqStateService;
+    }
+
+    // Follows the sequence of the block parser
+    private static void addBlock(BsqStateService bsqStateService, Block block) {
+        List<Tx> txs = new ArrayList<>(block.getTxs());
+        block.getTxs().clear();
+        bsqStateService.onNewBlockHeight(block.getHeight());
+        bsqStateService.onNewBlockWithEmptyTxs(block);
+        block.getTxs().addAll(txs);
+        bsqStateService.onParseBlockComplete(block);
+    }
+
+    private static Block createBlock(int height, Tx... txs) {
+        Block block = new Block(height, height * 600L, "block-" + height, "block-" + (height - 1));
+        block.getTxs().addAll(Arrays.asList(txs));
+        return block;
+    }
+
+    // The output at index i has the value (i + 1) * 1000
+    private static Tx createTx(String txId, int height, long burntFee, TxOutputType... txOutputTypes) {
+        List<RawTxOutput> rawTxOutputs = new ArrayList<>();
+        for (int i = 0; i < txOutputTypes.length; i++)
+            rawTxOutputs.add(new RawTxOutput(i, (i + 1) * 1000, txId, null, null, null, height));
+
+        TempTx tempTx = TempTx.fromRawTx(new RawTx(txId, height, "block-" + height, height * 600L,
+                ImmutableList.of(new TxInput("fundingTx-" + txId, 0, null)),
+                ImmutableList.copyOf(rawTxOutputs)));
+        tempTx.setBurntFee(burntFee);
+        List<TempTxOutput> tempTxOutputs = tempTx.getTempTxOutputs();
+        for (int i = 0; i < txOutputTypes.length; i++)
+            tempTxOutputs.get(i).setTxOutputType(txOutputTypes[i]);
+        return Tx.fromTempTx(tempTx);
+    }
+}
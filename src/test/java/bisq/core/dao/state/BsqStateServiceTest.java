@@ -0,0 +1,104 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.state;
+
+import bisq.core.dao.state.blockchain.Block;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+
+public class BsqStateServiceTest {
+    private BsqStateService bsqStateService;
+    private RecordingListener perBlockListener;
+    private RecordingListener batchListener;
+
+    @Before
+    public void setup() {
+        bsqStateService = new BsqStateService(new BsqState(), mock(GenesisTxInfo.class));
+        perBlockListener = new RecordingListener(true);
+        batchListener = new RecordingListener(false);
+        bsqStateService.addBsqStateListener(perBlockListener);
+        bsqStateService.addBsqStateListener(batchListener);
+    }
+
+    @Test
+    public void testBlockBatch() {
+        bsqStateService.beginBlockBatch();
+        bsqStateService.onNewBlockHeight(10);
+        bsqStateService.onNewBlockHeight(11);
+        bsqStateService.onNewBlockHeight(12);
+        assertEquals(3, perBlockListener.heights.size());
+        assertEquals(0, batchListener.heights.size());
+        bsqStateService.endBlockBatch();
+
+        assertEquals(12, bsqStateService.getChainHeight());
+        assertEquals("10-12", perBlockListener.batches.get(0));
+        assertEquals("10-12", batchListener.batches.get(0));
+
+        // Outside of a batch all listeners get the per block events
+        bsqStateService.onNewBlockHeight(13);
+        assertEquals(4, perBlockListener.heights.size());
+        assertEquals(1, batchListener.heights.size());
+    }
+
+    @Test
+    public void testEmptyBlockBatch() {
+        bsqStateService.beginBlockBatch();
+        bsqStateService.endBlockBatch();
+        assertEquals(0, batchListener.batches.size());
+    }
+
+    private static class RecordingListener implements BsqStateListener {
+        private final boolean requiresPerBlockEvents;
+        private final List<Integer> heights = new ArrayList<>();
+        private final List<String> batches = new ArrayList<>();
+
+        RecordingListener(boolean requiresPerBlockEvents) {
+            this.requiresPerBlockEvents = requiresPerBlockEvents;
+        }
+
+        @Override
+        public void onNewBlockHeight(int blockHeight) {
+            heights.add(blockHeight);
+        }
+
+        @Override
+        public void onParseTxsComplete(Block block) {
+        }
+
+        @Override
+        public void onParseBlockChainComplete() {
+        }
+
+        @Override
+        public boolean requiresPerBlockEvents() {
+            return requiresPerBlockEvents;
+        }
+
+        @Override
+        public void onBlocksApplied(int fromHeight, int toHeight) {
+            batches.add(fromHeight + "-" + toHeight);
+        }
+    }
+}
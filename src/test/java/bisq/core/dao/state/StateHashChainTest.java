@@ -0,0 +1,72 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.state;
+
+import bisq.core.dao.state.blockchain.Block;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class StateHashChainTest {
+
+    @Test
+    public void testFindFirstMismatchingHeight() {
+        StateHashChain chain = createChain(100, 110, -1);
+        StateHashChain peersChain = createChain(100, 110, 105);
+
+        SortedMap<Integer, byte[]> peersHashes = new TreeMap<>();
+        for (int height = 100; height <= 110; height++)
+            peersHashes.put(height, peersChain.getHash(height).get());
+
+        assertArrayEquals(chain.getHash(104).get(), peersHashes.get(104));
+        assertEquals(105, (int) chain.findFirstMismatchingHeight(peersHashes).get());
+
+        // All later hashes differ as well as the chain covers the previous hashes
+        assertFalse(Arrays.equals(chain.getHash(110).get(), peersHashes.get(110)));
+
+        SortedMap<Integer, byte[]> sameHashes = new TreeMap<>();
+        for (int height = 100; height <= 110; height++)
+            sameHashes.put(height, chain.getHash(height).get());
+        assertFalse(chain.findFirstMismatchingHeight(sameHashes).isPresent());
+    }
+
+    @Test
+    public void testIgnoresNotConnectingBlock() {
+        StateHashChain chain = createChain(100, 102, -1);
+        chain.applyBlock(new Block(105, 0, "hash105", "hash104"), Collections.emptyList(), Collections.emptyList());
+        assertFalse(chain.getHash(105).isPresent());
+    }
+
+    private StateHashChain createChain(int fromHeight, int toHeight, int heightWithOtherBlock) {
+        StateHashChain chain = new StateHashChain();
+        for (int height = fromHeight; height <= toHeight; height++) {
+            String hash = height == heightWithOtherBlock ? "otherHash" + height : "hash" + height;
+            chain.applyBlock(new Block(height, 0, hash, "hash" + (height - 1)),
+                    Collections.emptyList(), Collections.emptyList());
+        }
+        return chain;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.state.blockchain;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+public class TxOutputKeyTest {
+    private static final String TX_ID = "3f7e4f1ad5b0d0e3a6e8e4e5d3c2b1a0f9e8d7c6b5a4f3e2d1c0b9a8f7e6d5c4";
+
+    @Test
+    public void testKeyFromString() {
+        TxOutputKey key = new TxOutputKey(TX_ID, 12);
+        assertEquals(TX_ID + ":12", key.toString());
+        assertEquals(key, TxOutputKey.getKeyFromString(key.toString()));
+        assertEquals(key.hashCode(), TxOutputKey.getKeyFromString(key.toString()).hashCode());
+    }
+
+    @Test
+    public void testEquals() {
+        // Different string instances with the same content
+        TxOutputKey key = new TxOutputKey(new String(TX_ID), 0);
+        TxOutputKey other = new TxOutputKey(new String(TX_ID), 0);
+        assertEquals(key, other);
+        assertNotEquals(key, new TxOutputKey(TX_ID, 1));
+    }
+
+    @Test
+    public void testOnlyStoredKeysAreInterned() {
+        String txId = new String(TX_ID);
+        // Lookup keys keep the passed instance
+        assertSame(txId, new TxOutputKey(txId, 0).getTxId());
+
+        TxOutputKey key = TxOutputKey.getKeyFromString(TX_ID + ":0");
+        TxOutputKey other = TxOutputKey.getKeyFromString(TX_ID + ":1");
+        assertSame(key.getTxId(), other.getTxId());
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.filter;
+
+import bisq.core.payment.payload.PaymentMethod;
+import bisq.core.payment.payload.PerfectMoneyAccountPayload;
+
+import com.google.common.collect.Lists;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CompiledFilterTest {
+
+    @Test
+    public void testBannedValues() {
+        Filter filter = new Filter(Lists.newArrayList("offer1"),
+                Lists.newArrayList("node1.onion:9999"),
+                Collections.emptyList(),
+                Lists.newArrayList("XMR"),
+                null,
+                null,
+                null,
+                null,
+                false,
+                null);
+        CompiledFilter compiledFilter = new CompiledFilter(filter);
+
+        assertTrue(compiledFilter.isOfferIdBanned("offer1"));
+        assertFalse(compiledFilter.isOfferIdBanned("offer2"));
+        assertTrue(compiledFilter.isNodeAddressBanned("node1.onion:9999"));
+        assertTrue(compiledFilter.isCurrencyBanned("XMR"));
+        assertFalse(compiledFilter.isCurrencyBanned("EUR"));
+        // Not set in old filters
+        assertFalse(compiledFilter.isPaymentMethodBanned(PaymentMethod.SEPA_ID));
+    }
+
+    @Test
+    public void testPaymentAccountFilter() {
+        PaymentAccountFilter banned = new PaymentAccountFilter(PaymentMethod.PERFECT_MONEY_ID, "getAccountNr", "123");
+        PaymentAccountFilter unknownMethod = new PaymentAccountFilter(PaymentMethod.PERFECT_MONEY_ID, "getFoo", "123");
+        Filter filter = new Filter(Collections.emptyList(),
+                Collections.emptyList(),
+                Lists.newArrayList(unknownMethod, banned),
+                null,
+                null,
+                null,
+                null,
+                null,
+                false,
+                null);
+        CompiledFilter compiledFilter = new CompiledFilter(filter);
+
+        PerfectMoneyAccountPayload payload = new PerfectMoneyAccountPayload(PaymentMethod.PERFECT_MONEY_ID, "id");
+        payload.setAccountNr("123");
+        assertEquals(banned, compiledFilter.findMatchingPaymentAccountFilter(payload));
+
+        payload.setAccountNr("456");
+        assertNull(compiledFilter.findMatchingPaymentAccountFilter(payload));
+    }
+}
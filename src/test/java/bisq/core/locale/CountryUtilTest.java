@@ -0,0 +1,62 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.locale;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CountryUtilTest {
+
+    @Before
+    public void setup() {
+        Locale.setDefault(new Locale("en", "US"));
+        GlobalSettings.setLocale(new Locale("en", "US"));
+    }
+
+    @Test
+    public void testFindCountryByCode() {
+        assertEquals("Germany", CountryUtil.findCountryByCode("DE").get().name);
+        // Added manually to the list of all countries
+        assertEquals("Georgia", CountryUtil.findCountryByCode("GE").get().name);
+        assertFalse(CountryUtil.findCountryByCode("XX").isPresent());
+    }
+
+    @Test
+    public void testGetAllCountriesForRegion() {
+        Region europe = CountryUtil.getAllRegions().stream().filter(e -> e.code.equals("EU")).findAny().get();
+        List<Country> countries = CountryUtil.getAllCountriesForRegion(europe);
+        assertTrue(countries.contains(CountryUtil.findCountryByCode("DE").get()));
+        assertFalse(countries.contains(CountryUtil.findCountryByCode("US").get()));
+        assertTrue(countries.stream().allMatch(e -> e.region.equals(europe)));
+    }
+
+    @Test
+    public void testReturnedListsAreCopies() {
+        List<Country> countries = CountryUtil.getAllCountries();
+        int size = countries.size();
+        countries.clear();
+        assertEquals(size, CountryUtil.getAllCountries().size());
+    }
+}
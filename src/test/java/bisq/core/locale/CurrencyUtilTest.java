@@ -23,6 +23,7 @@ import java.util.Optional;
 import org.junit.Before;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -44,4 +45,23 @@ public class CurrencyUtilTest {
         assertTrue(naira.isPresent());
         assertFalse("Fake currency shouldn't exist", fake.isPresent());
     }
+
+    @Test
+    public void testCurrencyClassification() {
+        assertTrue(CurrencyUtil.isFiatCurrency("EUR"));
+        assertFalse(CurrencyUtil.isCryptoCurrency("EUR"));
+        assertTrue(CurrencyUtil.isCryptoCurrency("XMR"));
+        assertFalse(CurrencyUtil.isFiatCurrency("XMR"));
+        assertFalse(CurrencyUtil.isFiatCurrency("FAK"));
+        assertFalse(CurrencyUtil.isFiatCurrency(null));
+        assertFalse(CurrencyUtil.isCryptoCurrency(null));
+        // Cached result must be the same
+        assertTrue(CurrencyUtil.isFiatCurrency("EUR"));
+    }
+
+    @Test
+    public void testGetSmallestUnitExponent() {
+        assertEquals(4, CurrencyUtil.getSmallestUnitExponent("EUR"));
+        assertEquals(8, CurrencyUtil.getSmallestUnitExponent("XMR"));
+    }
 }
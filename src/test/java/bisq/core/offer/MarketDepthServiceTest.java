@@ -0,0 +1,173 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.offer;
+
+import bisq.core.monetary.Price;
+import bisq.core.provider.price.PriceFeedService;
+
+import org.bitcoinj.core.Coin;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static bisq.core.offer.OfferPayload.Direction.BUY;
+import static bisq.core.offer.OfferPayload.Direction.SELL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MarketDepthServiceTest {
+    private final List<Offer> offers = new ArrayList<>();
+    private final Map<String, Long> priceValueById = new HashMap<>();
+    private final IntegerProperty updateCounter = new SimpleIntegerProperty();
+    private OfferBookService.OfferBookChangedListener offerBookChangedListener;
+    private MarketDepthService marketDepthService;
+
+    @Before
+    public void setup() {
+        OfferBookService offerBookService = mock(OfferBookService.class);
+        when(offerBookService.getOffers()).thenReturn(offers);
+        doAnswer(invocation -> {
+            offerBookChangedListener = invocation.getArgument(0);
+            return null;
+        }).when(offerBookService).addOfferBookChangedListener(any());
+        PriceFeedService priceFeedService = mock(PriceFeedService.class);
+        when(priceFeedService.updateCounterProperty()).thenReturn(updateCounter);
+
+        offers.add(getOffer("buy1", "USD", BUY, 60_000_000, 1));
+        offers.add(getOffer("buy2", "USD", BUY, 62_000_000, 2));
+        offers.add(getOffer("buy3", "USD", BUY, 61_000_000, 4));
+        offers.add(getOffer("sell1", "USD", SELL, 64_000_000, 1));
+        offers.add(getOffer("sell2", "USD", SELL, 63_000_000, 2));
+        marketDepthService = new MarketDepthService(offerBookService, priceFeedService);
+        marketDepthService.onAllServicesInitialized();
+    }
+
+    @Test
+    public void testFiatOrdering() {
+        // Highest bid and lowest ask first
+        assertEquals(Arrays.asList("buy2", "buy3", "buy1"), getIds("USD", BUY));
+        assertEquals(Arrays.asList("sell2", "sell1"), getIds("USD", SELL));
+        assertEquals(62_000_000, marketDepthService.getBestBid("USD").get().getValue());
+        assertEquals(63_000_000, marketDepthService.getBestAsk("USD").get().getValue());
+    }
+
+    @Test
+    public void testAltcoinOrdering() {
+        // Altcoin prices are BTC per altcoin, so the best offer to buy BTC has the lowest price
+        offerBookChangedListener.onAdded(getOffer("xmrBuy1", "XMR", BUY, 1_300_000, 1));
+        offerBookChangedListener.onAdded(getOffer("xmrBuy2", "XMR", BUY, 1_200_000, 1));
+        offerBookChangedListener.onAdded(getOffer("xmrSell1", "XMR", SELL, 1_000_000, 1));
+        offerBookChangedListener.onAdded(getOffer("xmrSell2", "XMR", SELL, 1_100_000, 1));
+
+        assertEquals(Arrays.asList("xmrBuy2", "xmrBuy1"), getIds("XMR", BUY));
+        assertEquals(Arrays.asList("xmrSell2", "xmrSell1"), getIds("XMR", SELL));
+        // Not crossed, so the spread is positive
+        assertEquals(100_000, marketDepthService.getSpread("XMR").get().getValue());
+    }
+
+    @Test
+    public void testSpread() {
+        assertEquals(1_000_000, marketDepthService.getSpread("USD").get().getValue());
+
+        // A bid above the best ask crosses the book
+        offerBookChangedListener.onAdded(getOffer("buy4", "USD", BUY, 65_000_000, 1));
+        assertEquals(-2_000_000, marketDepthService.getSpread("USD").get().getValue());
+
+        assertFalse(marketDepthService.getSpread("EUR").isPresent());
+    }
+
+    @Test
+    public void testDepthAtPrice() {
+        assertEquals(0, getDepthAtPrice("USD", BUY, 62_000_001));
+        // The price itself is included
+        assertEquals(2, getDepthAtPrice("USD", BUY, 62_000_000));
+        assertEquals(6, getDepthAtPrice("USD", BUY, 61_000_000));
+        assertEquals(7, getDepthAtPrice("USD", BUY, 1));
+        assertEquals(0, getDepthAtPrice("USD", SELL, 62_999_999));
+        assertEquals(3, getDepthAtPrice("USD", SELL, 64_000_000));
+        assertEquals(7, marketDepthService.getTotalDepth("USD", BUY).value);
+        assertEquals(0, getDepthAtPrice("EUR", BUY, 1));
+    }
+
+    @Test
+    public void testRemoval() {
+        List<Offer> offersBeforeRemoval = marketDepthService.getOffers("USD", BUY);
+        offerBookChangedListener.onRemoved(offers.get(1));
+
+        assertEquals(Arrays.asList("buy3", "buy1"), getIds("USD", BUY));
+        assertEquals(5, marketDepthService.getTotalDepth("USD", BUY).value);
+        // A list we got before is a copy and does not change
+        assertEquals(3, offersBeforeRemoval.size());
+
+        offerBookChangedListener.onRemoved(offers.get(3));
+        offerBookChangedListener.onRemoved(offers.get(4));
+        assertTrue(marketDepthService.getOffers("USD", SELL).isEmpty());
+        assertFalse(marketDepthService.getBestAsk("USD").isPresent());
+    }
+
+    @Test
+    public void testRepricingAtPriceEpoch() {
+        Offer marketBasedOffer = getOffer("buy4", "USD", BUY, 59_000_000, 1);
+        when(marketBasedOffer.isUseMarketBasedPrice()).thenReturn(true);
+        offerBookChangedListener.onAdded(marketBasedOffer);
+        assertEquals(Arrays.asList("buy2", "buy3", "buy1", "buy4"), getIds("USD", BUY));
+
+        // The market price moved up, the offer gets re-ranked only after the new price epoch
+        priceValueById.put("buy4", 63_000_000L);
+        updateCounter.set(updateCounter.get() + 1);
+        assertEquals(Arrays.asList("buy4", "buy2", "buy3", "buy1"), getIds("USD", BUY));
+        assertEquals(1, getDepthAtPrice("USD", BUY, 63_000_000));
+    }
+
+    private List<String> getIds(String currencyCode, OfferPayload.Direction direction) {
+        return marketDepthService.getOffers(currencyCode, direction).stream()
+                .map(Offer::getId)
+                .collect(Collectors.toList());
+    }
+
+    private long getDepthAtPrice(String currencyCode, OfferPayload.Direction direction, long priceValue) {
+        return marketDepthService.getDepthAtPrice(currencyCode, direction, Price.valueOf(currencyCode, priceValue)).value;
+    }
+
+    private Offer getOffer(String id, String currencyCode, OfferPayload.Direction direction, long priceValue,
+                           long amount) {
+        priceValueById.put(id, priceValue);
+        Offer offer = mock(Offer.class);
+        when(offer.getId()).thenReturn(id);
+        when(offer.getCurrencyCode()).thenReturn(currencyCode);
+        when(offer.getDirection()).thenReturn(direction);
+        when(offer.getAmount()).thenReturn(Coin.valueOf(amount));
+        when(offer.getPrice()).thenAnswer(invocation -> Price.valueOf(currencyCode, priceValueById.get(id)));
+        return offer;
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.offer.availability;
+
+import bisq.core.offer.Offer;
+
+import bisq.network.p2p.NodeAddress;
+
+import bisq.common.handlers.ErrorMessageHandler;
+import bisq.common.handlers.ResultHandler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class OfferAvailabilityBatchProbeTest {
+    private final NodeAddress maker1 = new NodeAddress("maker1.onion", 9999);
+    private final NodeAddress maker2 = new NodeAddress("maker2.onion", 9999);
+
+    // Result and error handlers of the requests which are sent but not answered yet
+    private Map<Offer, ResultHandler> pendingResultHandlers;
+    private Map<Offer, ErrorMessageHandler> pendingErrorHandlers;
+    private List<Offer> checkedOffers;
+    private AtomicInteger numCompleted;
+
+    @Before
+    public void setUp() {
+        pendingResultHandlers = new HashMap<>();
+        pendingErrorHandlers = new HashMap<>();
+        checkedOffers = new ArrayList<>();
+        numCompleted = new AtomicInteger();
+    }
+
+    @Test
+    public void testNoOffers() {
+        createProbe(Collections.emptyList()).start();
+
+        assertEquals(1, numCompleted.get());
+    }
+
+    @Test
+    public void testMaxPendingRequestsPerMaker() {
+        List<Offer> offers = createOffers(maker1, 5);
+        createProbe(offers).start();
+
+        assertEquals(3, pendingResultHandlers.size());
+        verify(offers.get(3), never()).checkOfferAvailability(any(), any(), any());
+
+        pendingResultHandlers.remove(offers.get(0)).handleResult();
+        assertEquals(3, pendingResultHandlers.size());
+        verify(offers.get(3), times(1)).checkOfferAvailability(any(), any(), any());
+        verify(offers.get(4), never()).checkOfferAvailability(any(), any(), any());
+
+        pendingErrorHandlers.remove(offers.get(1)).handleErrorMessage("timeout");
+        pendingResultHandlers.remove(offers.get(1));
+        assertEquals(3, pendingResultHandlers.size());
+        verify(offers.get(4), times(1)).checkOfferAvailability(any(), any(), any());
+
+        assertEquals(Arrays.asList(offers.get(0), offers.get(1)), checkedOffers);
+        assertEquals(0, numCompleted.get());
+    }
+
+    @Test
+    public void testMakersAreProbedInParallel() {
+        List<Offer> offers = new ArrayList<>(createOffers(maker1, 4));
+        offers.addAll(createOffers(maker2, 4));
+        createProbe(offers).start();
+
+        assertEquals(6, pendingResultHandlers.size());
+
+        // A response of one maker only frees a slot for that maker
+        pendingResultHandlers.remove(offers.get(0)).handleResult();
+        verify(offers.get(3), times(1)).checkOfferAvailability(any(), any(), any());
+        verify(offers.get(7), never()).checkOfferAvailability(any(), any(), any());
+    }
+
+    @Test
+    public void testCompleteHandler() {
+        List<Offer> offers = new ArrayList<>(createOffers(maker1, 4));
+        offers.addAll(createOffers(maker2, 1));
+        createProbe(offers).start();
+
+        while (!pendingResultHandlers.isEmpty()) {
+            assertEquals(0, numCompleted.get());
+            Offer offer = pendingResultHandlers.keySet().iterator().next();
+            pendingResultHandlers.remove(offer).handleResult();
+        }
+
+        assertEquals(5, checkedOffers.size());
+        assertEquals(1, numCompleted.get());
+    }
+
+    @Test
+    public void testDuplicateOffersAreCheckedOnce() {
+        Offer offer = createOffers(maker1, 1).get(0);
+        createProbe(Arrays.asList(offer, offer)).start();
+
+        verify(offer, times(1)).checkOfferAvailability(any(), any(), any());
+        pendingResultHandlers.remove(offer).handleResult();
+
+        assertEquals(1, checkedOffers.size());
+        assertEquals(1, numCompleted.get());
+    }
+
+    @Test
+    public void testCancel() {
+        List<Offer> offers = createOffers(maker1, 4);
+        OfferAvailabilityBatchProbe probe = createProbe(offers);
+        probe.start();
+        probe.cancel();
+
+        for (int i = 0; i < 3; i++)
+            verify(offers.get(i), times(1)).cancelAvailabilityRequest();
+
+        // Late responses are ignored and no further requests are sent
+        pendingResultHandlers.remove(offers.get(0)).handleResult();
+        verify(offers.get(3), never()).checkOfferAvailability(any(), any(), any());
+        assertEquals(0, checkedOffers.size());
+        assertEquals(0, numCompleted.get());
+    }
+
+    private OfferAvailabilityBatchProbe createProbe(List<Offer> offers) {
+        return new OfferAvailabilityBatchProbe(offers,
+                offer -> null,
+                checkedOffers::add,
+                numCompleted::incrementAndGet);
+    }
+
+    private List<Offer> createOffers(NodeAddress maker, int numOffers) {
+        List<Offer> offers = new ArrayList<>();
+        for (int i = 0; i < numOffers; i++) {
+            Offer offer = mock(Offer.class);
+            when(offer.getMakerNodeAddress()).thenReturn(maker);
+            doAnswer(invocation -> {
+                pendingResultHandlers.put(offer, invocation.getArgument(1));
+                pendingErrorHandlers.put(offer, invocation.getArgument(2));
+                return null;
+            }).when(offer).checkOfferAvailability(any(), any(), any());
+            offers.add(offer);
+        }
+        return offers;
+    }
+}
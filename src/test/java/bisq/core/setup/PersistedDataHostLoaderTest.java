@@ -0,0 +1,121 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.setup;
+
+import bisq.common.proto.persistable.PersistedDataHost;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PersistedDataHostLoaderTest {
+
+    @Test
+    public void testDependenciesAreReadFirst() {
+        List<String> readOrder = new CopyOnWriteArrayList<>();
+        TestHost base = new TestHost("base", readOrder, 50);
+        TestHost a = new TestHost("a", readOrder, 0);
+        TestHost b = new TestHost("b", readOrder, 0);
+        TestHost c = new TestHost("c", readOrder, 0);
+
+        PersistedDataHostLoader loader = new PersistedDataHostLoader()
+                .add(base)
+                .add(a, base)
+                .add(b, base)
+                .add(c, a, b);
+        loader.load();
+
+        assertEquals(4, readOrder.size());
+        assertEquals("base", readOrder.get(0));
+        assertEquals("c", readOrder.get(3));
+    }
+
+    @Test
+    public void testExceptionDoesNotStopOtherHosts() {
+        List<String> readOrder = new CopyOnWriteArrayList<>();
+        PersistedDataHost failing = new PersistedDataHost() {
+            @Override
+            public void readPersisted() {
+                throw new RuntimeException("corrupted file");
+            }
+        };
+        TestHost other = new TestHost("other", readOrder, 0);
+
+        new PersistedDataHostLoader().add(failing).add(other, failing).load();
+
+        assertTrue(readOrder.contains("other"));
+    }
+
+    @Test
+    public void testSequentialHostsAreReadLastOnCallingThread() {
+        List<String> readOrder = new CopyOnWriteArrayList<>();
+        List<Thread> sequentialReadThreads = new CopyOnWriteArrayList<>();
+        TestHost slow = new TestHost("slow", readOrder, 50);
+        PersistedDataHost first = () -> {
+            readOrder.add("first");
+            sequentialReadThreads.add(Thread.currentThread());
+        };
+        PersistedDataHost second = () -> {
+            readOrder.add("second");
+            sequentialReadThreads.add(Thread.currentThread());
+        };
+
+        PersistedDataHostLoader loader = new PersistedDataHostLoader()
+                .addSequential(first)
+                .add(slow)
+                .addSequential(second);
+        loader.load();
+
+        assertEquals(Arrays.asList("slow", "first", "second"), readOrder);
+        assertEquals(Arrays.asList(Thread.currentThread(), Thread.currentThread()), sequentialReadThreads);
+        assertEquals(Arrays.asList(slow, first, second), loader.getPersistedDataHosts());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDependencyMustBeAddedFirst() {
+        TestHost a = new TestHost("a", new CopyOnWriteArrayList<>(), 0);
+        TestHost b = new TestHost("b", new CopyOnWriteArrayList<>(), 0);
+        new PersistedDataHostLoader().add(a, b);
+    }
+
+    private static class TestHost implements PersistedDataHost {
+        private final String name;
+        private final List<String> readOrder;
+        private final long delayMs;
+
+        TestHost(String name, List<String> readOrder, long delayMs) {
+            this.name = name;
+            this.readOrder = readOrder;
+            this.delayMs = delayMs;
+        }
+
+        @Override
+        public void readPersisted() {
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException ignore) {
+            }
+            readOrder.add(name);
+        }
+    }
+}
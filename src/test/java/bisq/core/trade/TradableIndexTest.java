@@ -0,0 +1,101 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.trade;
+
+import bisq.core.offer.Offer;
+
+import com.google.protobuf.Message;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.util.Date;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+public class TradableIndexTest {
+
+    @Test
+    public void testFollowsListChanges() {
+        ObservableList<Tradable> list = FXCollections.observableArrayList();
+        Tradable first = new TestTradable("1");
+        list.add(first);
+        TradableIndex<Tradable> index = new TradableIndex<>(list);
+        assertSame(first, index.getById("1").get());
+        assertFalse(index.getById("2").isPresent());
+
+        Tradable second = new TestTradable("2");
+        list.add(second);
+        assertSame(second, index.getById("2").get());
+
+        list.remove(first);
+        assertFalse(index.getById("1").isPresent());
+    }
+
+    @Test
+    public void testDuplicateIds() {
+        ObservableList<Tradable> list = FXCollections.observableArrayList();
+        TradableIndex<Tradable> index = new TradableIndex<>(list);
+        Tradable first = new TestTradable("1");
+        Tradable duplicate = new TestTradable("1");
+        list.add(first);
+        list.add(duplicate);
+        assertSame(first, index.getById("1").get());
+
+        list.remove(first);
+        assertSame(duplicate, index.getById("1").get());
+        list.remove(duplicate);
+        assertFalse(index.getById("1").isPresent());
+    }
+
+    private static class TestTradable implements Tradable {
+        private final String id;
+
+        TestTradable(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public Offer getOffer() {
+            return null;
+        }
+
+        @Override
+        public Date getDate() {
+            return new Date();
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public String getShortId() {
+            return id;
+        }
+
+        @Override
+        public Message toProtoMessage() {
+            return null;
+        }
+    }
+}
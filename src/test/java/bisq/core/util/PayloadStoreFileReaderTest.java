@@ -0,0 +1,134 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.util;
+
+import bisq.core.payment.AccountAgeWitness;
+
+import bisq.network.p2p.storage.P2PDataStorage;
+import bisq.network.p2p.storage.payload.PersistableNetworkPayload;
+
+import bisq.common.storage.Storage;
+
+import io.bisq.generated.protobuffer.PB;
+
+import com.google.protobuf.ByteString;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class PayloadStoreFileReaderTest {
+    private final PayloadStoreFileReader<PB.AccountAgeWitness> reader = new PayloadStoreFileReader<>(
+            PB.PersistableEnvelope.ACCOUNT_AGE_WITNESS_STORE_FIELD_NUMBER,
+            PB.AccountAgeWitnessStore.ITEMS_FIELD_NUMBER,
+            PB.AccountAgeWitness.parser(),
+            AccountAgeWitness::fromProto);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testRead() throws IOException {
+        PB.AccountAgeWitnessStore.Builder storeBuilder = PB.AccountAgeWitnessStore.newBuilder();
+        for (int i = 0; i < 100; i++) {
+            byte[] hash = new byte[20];
+            hash[0] = (byte) i;
+            storeBuilder.addItems(PB.AccountAgeWitness.newBuilder().setHash(ByteString.copyFrom(hash)).setDate(i));
+        }
+        File file = folder.newFile("AccountAgeWitnessStore");
+        try (FileOutputStream outputStream = new FileOutputStream(file)) {
+            PB.PersistableEnvelope.newBuilder().setAccountAgeWitnessStore(storeBuilder).build()
+                    .writeDelimitedTo(outputStream);
+        }
+
+        Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> map = new HashMap<>();
+        assertEquals(100, reader.read(file, map));
+        assertEquals(100, map.size());
+        byte[] hash = new byte[20];
+        hash[0] = 42;
+        assertEquals(42, ((AccountAgeWitness) map.get(new P2PDataStorage.ByteArray(hash))).getDate());
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadOtherStore() throws IOException {
+        File file = folder.newFile("TradeStatistics2Store");
+        try (FileOutputStream outputStream = new FileOutputStream(file)) {
+            PB.PersistableEnvelope.newBuilder().setTradeStatistics2Store(PB.TradeStatistics2Store.newBuilder())
+                    .build().writeDelimitedTo(outputStream);
+        }
+        reader.read(file, new HashMap<>());
+    }
+
+    @Test
+    public void testEmptyStore() throws IOException {
+        File file = folder.newFile("AccountAgeWitnessStore");
+        try (FileOutputStream outputStream = new FileOutputStream(file)) {
+            PB.PersistableEnvelope.newBuilder().setAccountAgeWitnessStore(PB.AccountAgeWitnessStore.newBuilder())
+                    .build().writeDelimitedTo(outputStream);
+        }
+        Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> map = new HashMap<>();
+        assertEquals(0, reader.read(file, map));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testReadStore() throws IOException {
+        File file = folder.newFile("AccountAgeWitnessStore");
+        try (FileOutputStream outputStream = new FileOutputStream(file)) {
+            PB.PersistableEnvelope.newBuilder().setAccountAgeWitnessStore(PB.AccountAgeWitnessStore.newBuilder()
+                    .addItems(PB.AccountAgeWitness.newBuilder().setHash(ByteString.copyFrom(new byte[20]))))
+                    .build().writeDelimitedTo(outputStream);
+        }
+        Storage<?> storage = mock(Storage.class);
+        Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> map = new HashMap<>();
+        assertTrue(reader.readStore(folder.getRoot(), "AccountAgeWitnessStore", storage, map));
+        assertEquals(1, map.size());
+        verify(storage).initWithFileName("AccountAgeWitnessStore");
+    }
+
+    @Test
+    public void testReadStoreFallback() throws IOException {
+        Storage<?> storage = mock(Storage.class);
+        Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> map = new HashMap<>();
+        // No file
+        assertFalse(reader.readStore(folder.getRoot(), "AccountAgeWitnessStore", storage, map));
+
+        // Invalid file
+        File file = folder.newFile("AccountAgeWitnessStore");
+        try (FileOutputStream outputStream = new FileOutputStream(file)) {
+            outputStream.write(new byte[]{5, 1, 2});
+        }
+        assertFalse(reader.readStore(folder.getRoot(), "AccountAgeWitnessStore", storage, map));
+        assertTrue(map.isEmpty());
+        verify(storage, never()).initWithFileName("AccountAgeWitnessStore");
+    }
+}
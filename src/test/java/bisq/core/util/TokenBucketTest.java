@@ -0,0 +1,56 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TokenBucketTest {
+
+    @Test
+    public void testBurstUpToCapacity() {
+        AtomicLong now = new AtomicLong(0);
+        TokenBucket bucket = new TokenBucket(3, 1, now::get);
+        assertTrue(bucket.tryConsume());
+        assertTrue(bucket.tryConsume());
+        assertTrue(bucket.tryConsume());
+        assertFalse(bucket.tryConsume());
+    }
+
+    @Test
+    public void testRefill() {
+        AtomicLong now = new AtomicLong(0);
+        TokenBucket bucket = new TokenBucket(2, 10, now::get);
+        assertTrue(bucket.tryConsume());
+        assertTrue(bucket.tryConsume());
+        assertFalse(bucket.tryConsume());
+
+        now.set(100);
+        assertTrue(bucket.tryConsume());
+        assertFalse(bucket.tryConsume());
+
+        // Refill never exceeds the capacity
+        now.set(10_000);
+        assertEquals(2, bucket.getAvailableTokens());
+    }
+}